@@ -0,0 +1,23 @@
+plugins {
+    java
+    id("io.micronaut.build.internal.guides-base")
+    alias(libs.plugins.jmh)
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(projects.guides)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    if (project.hasProperty("jmhIncludes")) {
+        includes = listOf(project.property("jmhIncludes").toString())
+    }
+}
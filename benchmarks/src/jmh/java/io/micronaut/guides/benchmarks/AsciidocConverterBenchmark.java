@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.asciidoc.AsciidocConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion to HTML of a substituted document for every guide of the corpus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsciidocConverterBenchmark extends CorpusBenchmark {
+
+    private AsciidocConverter asciidocConverter;
+    private String asciidoc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        asciidocConverter = context.getBean(AsciidocConverter.class);
+        asciidoc = SyntheticCorpus.renderedAsciidoc();
+        // creates the Asciidoctor instance outside the measurement
+        asciidocConverter.convert(asciidoc, corpus.toFile(), Map::of);
+    }
+
+    @Benchmark
+    public void convert(Blackhole blackhole) {
+        File baseDir = corpus.toFile();
+        for (Guide guide : parsedGuides) {
+            blackhole.consume(asciidocConverter.convert(asciidoc, baseDir, () -> Map.of("guidesourcedir", guide.getSlug())));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.guides.core.GuideParser;
+import io.micronaut.guides.core.asciidoc.AsciidocConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a cold start of the generator with the Asciidoctor instance created eagerly, lazily or warmed up in the background.
+ * The eager mode is the baseline: the instance is created synchronously as soon as the converter bean is created, as the converter used to do in its constructor.
+ * The metadata of a corpus of 100 guides is parsed before the first conversion, as the website generator does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class AsciidoctorStartupBenchmark {
+    private static final int GUIDES = 100;
+    private static final String EAGER = "eager";
+    private static final String WARM_UP = "warm-up";
+    private static final String EAGER_DOCUMENT = "= Startup";
+
+    /**
+     * When the Asciidoctor instance is created: {@code eager} when the converter is created, {@code lazy} on the first conversion, or {@code warm-up} in the background when the converter is created.
+     */
+    @Param({EAGER, "lazy", WARM_UP})
+    public String mode;
+
+    private Path corpus;
+    private String asciidoc;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpus = Files.createTempDirectory("micronaut-guides-corpus");
+        SyntheticCorpus.create(corpus, GUIDES);
+        asciidoc = SyntheticCorpus.renderedAsciidoc();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticCorpus.delete(corpus);
+    }
+
+    /**
+     * Parses the metadata without converting any document.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void parseOnly(Blackhole blackhole) {
+        try (ApplicationContext context = start()) {
+            converter(context);
+            blackhole.consume(context.getBean(GuideParser.class).parseGuidesMetadata(corpus.toFile()));
+        }
+    }
+
+    /**
+     * Parses the metadata and converts a document.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void parseAndConvert(Blackhole blackhole) {
+        try (ApplicationContext context = start()) {
+            AsciidocConverter asciidocConverter = converter(context);
+            blackhole.consume(context.getBean(GuideParser.class).parseGuidesMetadata(corpus.toFile()));
+            blackhole.consume(asciidocConverter.convert(asciidoc, corpus.toFile(), Map::of));
+        }
+    }
+
+    private ApplicationContext start() {
+        return ApplicationContext.builder()
+                .properties(Map.of("guides.validate-metadata", false, "asciidoc.warm-up", WARM_UP.equals(mode)))
+                .start();
+    }
+
+    private AsciidocConverter converter(ApplicationContext context) {
+        AsciidocConverter asciidocConverter = context.getBean(AsciidocConverter.class);
+        if (EAGER.equals(mode)) {
+            // forces the creation of the Asciidoctor instance before anything else runs
+            asciidocConverter.convert(EAGER_DOCUMENT, corpus.toFile(), Map::of);
+        }
+        return asciidocConverter;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideParser;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the benchmarks which run against a synthetic corpus of guides written to a temporary directory.
+ */
+@State(Scope.Benchmark)
+public abstract class CorpusBenchmark {
+
+    /**
+     * Number of guides of the corpus.
+     */
+    @Param({"10", "100", "1000"})
+    public int guides;
+
+    protected ApplicationContext context;
+    protected Path corpus;
+    protected List<? extends Guide> parsedGuides;
+
+    @Setup(Level.Trial)
+    public void setUpCorpus() throws IOException {
+        corpus = Files.createTempDirectory("micronaut-guides-corpus");
+        SyntheticCorpus.create(corpus, guides);
+        context = ApplicationContext.builder()
+                .properties(Map.of("guides.validate-metadata", false))
+                .start();
+        parsedGuides = context.getBean(GuideParser.class).parseGuidesMetadata(corpus.toFile());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownCorpus() throws IOException {
+        context.close();
+        SyntheticCorpus.delete(corpus);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.guides.core.FilesTransferUtility;
+import io.micronaut.guides.core.Guide;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the transfer of the sources of every guide of the corpus to the folders of its options.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FilesTransferUtilityBenchmark extends CorpusBenchmark {
+
+    private FilesTransferUtility filesTransferUtility;
+    private Path outputDirectory;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        filesTransferUtility = context.getBean(FilesTransferUtility.class);
+        outputDirectory = Files.createTempDirectory("micronaut-guides-output");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        SyntheticCorpus.delete(outputDirectory);
+    }
+
+    @Benchmark
+    public void transferFiles() throws IOException {
+        for (Guide guide : parsedGuides) {
+            filesTransferUtility.transferFiles(corpus.resolve(guide.getSlug()).toFile(), outputDirectory.toFile(), guide, parsedGuides);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.guides.core.App;
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideProjectGenerator;
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating the projects of a guide with three apps, built with Gradle and Maven in Java and Kotlin, sequentially or concurrently.
+ * A new application context is started for every iteration, so the starter skeletons are never cached between iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class GuideProjectGeneratorBenchmark {
+
+    /**
+     * Maximum number of projects generated concurrently.
+     */
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private ApplicationContext context;
+    private GuideProjectGenerator guideProjectGenerator;
+    private Guide guide;
+    private Path outputDirectory;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        context = ApplicationContext.builder()
+                .properties(Map.of("guides.validate-metadata", false, "guides.parallelism", parallelism))
+                .start();
+        guideProjectGenerator = context.getBean(GuideProjectGenerator.class);
+        outputDirectory = Files.createTempDirectory("micronaut-guides-projects");
+        guide = new Guide();
+        guide.setSlug("micronaut-microservices-services-discover-consul");
+        guide.setLanguages(List.of(Language.JAVA, Language.KOTLIN));
+        guide.setBuildTools(List.of(BuildTool.GRADLE, BuildTool.MAVEN));
+        guide.setTestFramework(TestFramework.JUNIT);
+        guide.setApps(List.of(app("bookcatalogue"), app("bookinventory"), app("bookrecommendation")));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        context.close();
+        SyntheticCorpus.delete(outputDirectory);
+    }
+
+    @Benchmark
+    public void generate() throws IOException {
+        guideProjectGenerator.generate(outputDirectory.toFile(), guide);
+    }
+
+    private static App app(String name) {
+        App app = new App();
+        app.setName(name);
+        app.setPackageName("example.micronaut");
+        app.setApplicationType(ApplicationType.DEFAULT);
+        app.setFramework("Micronaut");
+        app.setFeatures(List.of("discovery-consul", "management", "yaml"));
+        return app;
+    }
+}
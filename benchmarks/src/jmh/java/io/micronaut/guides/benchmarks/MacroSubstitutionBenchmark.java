@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.guides.core.Guide;
+import io.micronaut.guides.core.GuideRender;
+import io.micronaut.guides.core.GuidesOption;
+import io.micronaut.guides.core.MacroSubstitution;
+import io.micronaut.guides.core.PlaceholderMacroSubstitution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the macro substitution of every guide of the corpus for every option.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MacroSubstitutionBenchmark extends CorpusBenchmark {
+
+    private final List<String> documents = new ArrayList<>();
+    private MacroSubstitution macroSubstitution;
+    private PlaceholderMacroSubstitution placeholderMacroSubstitution;
+    private long run;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        macroSubstitution = context.getBean(MacroSubstitution.class);
+        placeholderMacroSubstitution = context.getBean(PlaceholderMacroSubstitution.class);
+        for (Guide guide : parsedGuides) {
+            documents.add(Files.readString(corpus.resolve(guide.getSlug()).resolve(guide.getSlug() + ".adoc")));
+        }
+    }
+
+    /**
+     * Substitutes every guide for every option through the whole macro pipeline.
+     * Every run uses different documents, so the option independent substitutions cached per guide are computed once per guide and run.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void substitute(Blackhole blackhole) {
+        String marker = "// run " + run++ + "\n";
+        for (int i = 0; i < parsedGuides.size(); i++) {
+            Guide guide = parsedGuides.get(i);
+            String asciidoc = documents.get(i) + marker;
+            for (GuidesOption option : SyntheticCorpus.OPTIONS) {
+                blackhole.consume(macroSubstitution.substitute(asciidoc, new GuideRender(guide, option)));
+            }
+        }
+    }
+
+    /**
+     * Substitutes the placeholders of every guide for every option.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void placeholders(Blackhole blackhole) {
+        for (int i = 0; i < parsedGuides.size(); i++) {
+            Guide guide = parsedGuides.get(i);
+            for (GuidesOption option : SyntheticCorpus.OPTIONS) {
+                blackhole.consume(placeholderMacroSubstitution.substitute(documents.get(i), new GuideRender(guide, option)));
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.benchmarks;
+
+import io.micronaut.guides.core.GuidesOption;
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates synthetic guides with the layout and macros of real guides.
+ */
+final class SyntheticCorpus {
+    /**
+     * Options a guide is rendered for.
+     */
+    static final List<GuidesOption> OPTIONS = List.of(
+            new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT),
+            new GuidesOption(BuildTool.GRADLE, Language.KOTLIN, TestFramework.KOTEST),
+            new GuidesOption(BuildTool.GRADLE, Language.GROOVY, TestFramework.SPOCK),
+            new GuidesOption(BuildTool.MAVEN, Language.JAVA, TestFramework.JUNIT),
+            new GuidesOption(BuildTool.MAVEN, Language.KOTLIN, TestFramework.KOTEST),
+            new GuidesOption(BuildTool.MAVEN, Language.GROOVY, TestFramework.SPOCK));
+
+    private static final int SECTIONS = 8;
+    private static final String PARAGRAPH = "The Micronaut framework is a modern, JVM-based, full stack framework for building modular, easily testable microservice and serverless applications. "
+            + "It uses `@Controller`, dependency injection at compilation time and https://micronaut.io[reflection free] configuration to keep the startup time low.";
+
+    private SyntheticCorpus() {
+    }
+
+    /**
+     * Writes a corpus of guides, each in its own folder with metadata, an asciidoc document and the sources for every language.
+     *
+     * @param root   directory where the guides are written
+     * @param guides number of guides
+     * @throws IOException if an I/O error occurs writing the files
+     */
+    static void create(Path root, int guides) throws IOException {
+        for (int i = 0; i < guides; i++) {
+            String slug = slug(i);
+            Path guide = Files.createDirectories(root.resolve(slug));
+            write(guide.resolve("metadata.json"), metadata(i));
+            write(guide.resolve(slug + ".adoc"), asciidoc(slug, guides));
+            write(guide.resolve("src/main/resources/application.properties"), "micronaut.application.name=" + slug + "\n");
+            for (int section = 0; section < SECTIONS; section++) {
+                String name = "Hello" + section + "Controller";
+                write(guide.resolve("java/src/main/java/example/micronaut/" + name + ".java"), source(name, "java"));
+                write(guide.resolve("java/src/test/java/example/micronaut/" + name + "Test.java"), source(name + "Test", "java"));
+                write(guide.resolve("kotlin/src/main/kotlin/example/micronaut/" + name + ".kt"), source(name, "kotlin"));
+                write(guide.resolve("kotlin/src/test/kotlin/example/micronaut/" + name + "Test.kt"), source(name + "Test", "kotlin"));
+                write(guide.resolve("groovy/src/main/groovy/example/micronaut/" + name + ".groovy"), source(name, "groovy"));
+                write(guide.resolve("groovy/src/test/groovy/example/micronaut/" + name + "Spec.groovy"), source(name + "Spec", "groovy"));
+            }
+        }
+    }
+
+    /**
+     * @param index index of the guide in the corpus
+     * @return the slug of the guide
+     */
+    static String slug(int index) {
+        return String.format("guide-%04d", index);
+    }
+
+    /**
+     * Generates the asciidoc document of a guide, before macro substitution.
+     *
+     * @param slug   the guide slug
+     * @param guides number of guides of the corpus, used for links to other guides
+     * @return the asciidoc document
+     */
+    static String asciidoc(String slug, int guides) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("common:header.adoc[]\n\ncommon:requirements.adoc[]\n\ncommon:completesolution.adoc[]\n\ncommon:create-app-features.adoc[]\n\n");
+        for (int section = 0; section < SECTIONS; section++) {
+            String name = "Hello" + section + "Controller";
+            sb.append("== Section ").append(section).append("\n\n")
+                    .append(PARAGRAPH).append(" This is @guideTitle@ written in @language@ and built with @build@.\n\n")
+                    .append("source:").append(name).append("[]\n\n")
+                    .append("callout:controller[number=1,arg0=/hello]\n\n")
+                    .append("test:").append(name).append("Test[]\n\n")
+                    .append("dependency:micronaut-http-client[scope=testImplementation]\n\n")
+                    .append(":exclude-for-languages:groovy\n\n").append(PARAGRAPH).append("\n\n:exclude-for-languages:\n\n")
+                    .append(":exclude-for-build:maven\n\n").append(PARAGRAPH).append("\n\n:exclude-for-build:\n\n")
+                    .append("See guideLink:").append(slug((section * 31) % guides)).append("[another guide] and {githubSlug}.\n\n");
+        }
+        sb.append("resource:application.properties[]\n\ncommon:runapp.adoc[]\n\ncommon:graal-with-plugins.adoc[]\n\ncommon:next.adoc[]\n");
+        return sb.toString();
+    }
+
+    /**
+     * Generates an asciidoc document as produced by the macro substitution, without includes so it can be converted without the guide sources.
+     *
+     * @return the asciidoc document
+     */
+    static String renderedAsciidoc() {
+        StringBuilder sb = new StringBuilder("= Synthetic guide\n:toc:\n\n");
+        for (int section = 0; section < SECTIONS; section++) {
+            String name = "Hello" + section + "Controller";
+            sb.append("== Section ").append(section).append("\n\n")
+                    .append(PARAGRAPH).append("\n\n")
+                    .append("[source,java]\n.src/main/java/example/micronaut/").append(name).append(".java\n----\n")
+                    .append(source(name, "java")).append("----\n\n")
+                    .append("<1> The class is defined as a controller with the `@Controller` annotation mapped to the path `/hello`.\n\n")
+                    .append("* First item\n* Second item with `code`\n* Third item\n\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generates an HTML page with a table of contents as produced by the Asciidoc converter.
+     *
+     * @return the HTML page
+     */
+    static String html() {
+        StringBuilder toc = new StringBuilder("<div id=\"toc\" class=\"toc\">\n<div id=\"toctitle\">Table of Contents</div>\n<ul class=\"sectlevel1\">\n");
+        StringBuilder body = new StringBuilder();
+        for (int section = 0; section < SECTIONS * 4; section++) {
+            toc.append("<li><a href=\"#_section_").append(section).append("\">Section ").append(section).append("</a></li>\n");
+            body.append("<div class=\"sect1\">\n<h2 id=\"_section_").append(section).append("\">Section ").append(section).append("</h2>\n<div class=\"sectionbody\">\n")
+                    .append("<div class=\"paragraph\">\n<p>").append(PARAGRAPH).append("</p>\n</div>\n")
+                    .append("<div class=\"listingblock\">\n<div class=\"content\">\n<pre>").append(source("Hello" + section + "Controller", "java")).append("</pre>\n</div>\n</div>\n")
+                    .append("</div>\n</div>\n");
+        }
+        toc.append("</ul>\n</div>\n");
+        return "<html>\n<body>\n<div id=\"header\">\n<h1>Synthetic guide</h1>\n" + toc + "</div>\n<div id=\"content\">\n" + body + "</div>\n</body>\n</html>\n";
+    }
+
+    /**
+     * Deletes a directory recursively.
+     *
+     * @param directory the directory to delete
+     * @throws IOException if an I/O error occurs deleting the files
+     */
+    static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String metadata(int index) {
+        return """
+                {
+                  "title": "Synthetic guide %d",
+                  "intro": "Learn how to write the synthetic guide %d.",
+                  "authors": ["Micronaut Team"],
+                  "tags": ["junit", "synthetic"],
+                  "categories": ["Getting Started"],
+                  "publicationDate": "2024-01-01",
+                  "apps": [
+                    {
+                      "name": "default",
+                      "features": ["http-client"],
+                      "javaFeatures": ["graalvm"]
+                    }
+                  ]
+                }
+                """.formatted(index, index);
+    }
+
+    private static String source(String name, String language) {
+        String semicolon = language.equals("java") ? ";" : "";
+        return """
+                /*
+                 * Copyright 2017-2024 original authors
+                 *
+                 * Licensed under the Apache License, Version 2.0 (the "License");
+                 * you may not use this file except in compliance with the License.
+                 * You may obtain a copy of the License at
+                 *
+                 * https://www.apache.org/licenses/LICENSE-2.0
+                 *
+                 * Unless required by applicable law or agreed to in writing, software
+                 * distributed under the License is distributed on an "AS IS" BASIS,
+                 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+                 * See the License for the specific language governing permissions and
+                 * limitations under the License.
+                 */
+                package example.micronaut%s
+
+                import io.micronaut.http.annotation.Controller%s
+                import io.micronaut.http.annotation.Get%s
+
+                @Controller("/hello")
+                class %s {
+
+                    @Get
+                    String index() {
+                        return "Hello World"%s
+                    }
+                }
+                """.formatted(semicolon, semicolon, semicolon, name, semicolon);
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+}
@@ -27,6 +27,8 @@ dependencies {
     annotationProcessor(mnSerde.micronaut.serde.processor)
     implementation(mnSerde.micronaut.serde.jackson)
     api(mnJsonSchema.json.schema.validator)
+    annotationProcessor(mnJsonSchema.micronaut.json.schema.processor)
+    compileOnly(mnJsonSchema.micronaut.json.schema.annotations)
 
     testAnnotationProcessor(mn.micronaut.inject.java)
     testImplementation(mnTest.micronaut.test.junit5)
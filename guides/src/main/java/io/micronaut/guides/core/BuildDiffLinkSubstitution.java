@@ -26,14 +26,12 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
-
 /**
  * BuildDiffLinkSubstitution is a singleton class that implements the MacroSubstitution interface.
  * It provides methods to substitute macros in Asciidoc files with appropriate values.
  */
 @Singleton
-public class BuildDiffLinkSubstitution implements MacroSubstitution {
+public class BuildDiffLinkSubstitution implements SingleLineMacroSubstitution {
     public static final String MACRO_DIFF_LINK = "diffLink";
     private static final String QUERY_PARAMLANG = "lang";
     private static final String QUERY_PARAM_BUILD = "build";
@@ -81,25 +79,26 @@ public class BuildDiffLinkSubstitution implements MacroSubstitution {
         return features;
     }
 
+    @Override
+    public String getLineMacroName() {
+        return MACRO_DIFF_LINK;
+    }
+
     /**
-     * Substitutes macros in the given string with the appropriate values.
+     * Substitutes a diffLink macro line with a link to the diff of the guide application against a starter generated application.
      *
-     * @param str         the string containing macros
+     * @param line        the line containing the macro
      * @param guideRender guide
-     * @return the string with macros substituted
+     * @return the link, or null if the line is not a valid macro
      */
     @Override
-    public String substitute(String str, GuideRender guideRender) {
-        for (String line : findMacroLines(str, MACRO_DIFF_LINK)) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(MACRO_DIFF_LINK, line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
-            AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
-            String res = buildDiffLink(asciidocMacro, guideRender).toString() + "[Diff]";
-            str = str.replace(line, res);
+    public String substituteLine(String line, GuideRender guideRender) {
+        Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(MACRO_DIFF_LINK, line);
+        if (asciidocMacroOptional.isEmpty()) {
+            return null;
         }
-        return str;
+        AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
+        return buildDiffLink(asciidocMacro, guideRender).toString() + "[Diff]";
     }
 
     /**
@@ -78,4 +78,9 @@ public class CliMacroSubstitution extends PlaceholderWithTargetMacroSubstitution
             throw new ConfigurationException("No CLI command found for app: " + app + " -- should be one of " + guideRender.guide().getApps().stream().map(el -> "@" + el + ":cli-command@").collect(Collectors.joining(", ")));
         }
     }
+
+    @Override
+    public boolean isOptionDependent() {
+        return false;
+    }
 }
@@ -19,30 +19,61 @@ import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A composite implementation of the {@link MacroSubstitution} interface that applies a list of
- * {@link MacroSubstitution} instances in sequence.
+ * {@link MacroSubstitution} instances in the order given by {@link MacroSubstitution#getOrder()}.
+ * Substitutions with the same order form a phase. Within a phase, the document is split into lines once and every line
+ * starting with a macro name is dispatched to the matching {@link SingleLineMacroSubstitution}. The remaining substitutions of the phase are then applied to the whole document.
+ * The leading substitutions which do not depend on the {@link GuidesOption} are applied once per guide document, and their result is cached and reused for every option of the guide.
  */
 @Singleton
 @Primary
 @Internal
 class CompositeMacroSubstitution implements MacroSubstitution {
+    private static final Logger LOG = LoggerFactory.getLogger(CompositeMacroSubstitution.class);
+    private static final char LINE_BREAK = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char MACRO_NAME_SEPARATOR = ':';
+    private static final int MIN_CACHE_SIZE = 16;
+
     private final List<MacroSubstitution> substitutions;
+    private final List<Phase> optionIndependentPhases = new ArrayList<>();
+    private final List<Phase> optionDependentPhases = new ArrayList<>();
+    private final Map<GuideDocument, String> optionIndependentCache;
+    private final boolean compatibilityCheck;
 
     /**
      * Constructs a new {@code CompositeMacroSubstitution} with the given list of substitutions.
      *
-     * @param substitutions the list of {@link MacroSubstitution} instances to apply
+     * @param substitutions       the list of {@link MacroSubstitution} instances to apply
+     * @param guidesConfiguration the guides configuration
      */
-    CompositeMacroSubstitution(List<MacroSubstitution> substitutions) {
+    CompositeMacroSubstitution(List<MacroSubstitution> substitutions, GuidesConfiguration guidesConfiguration) {
         this.substitutions = substitutions;
+        splitPhases(substitutions);
+        int cacheSize = Math.max(MIN_CACHE_SIZE, 2 * guidesConfiguration.getParallelism());
+        this.optionIndependentCache = Collections.synchronizedMap(new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GuideDocument, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.compatibilityCheck = guidesConfiguration.isMacroCompatibilityCheck();
     }
 
     /**
-     * Applies the list of {@link MacroSubstitution} instances to the given string in sequence.
+     * Applies the list of {@link MacroSubstitution} instances to the given string phase by phase.
      *
      * @param str    the string to substitute
      * @param guideRender Guide
@@ -51,10 +82,154 @@ class CompositeMacroSubstitution implements MacroSubstitution {
     @Override
     @NonNull
     public String substitute(@NonNull String str, @NonNull GuideRender guideRender) {
+        String result = optionIndependentSubstitute(str, guideRender);
+        for (Phase phase : optionDependentPhases) {
+            result = phase.substitute(result, guideRender);
+        }
+        if (compatibilityCheck) {
+            String legacy = legacySubstitute(str, guideRender);
+            if (!legacy.equals(result)) {
+                GuidesOption option = guideRender.option();
+                LOG.warn("Macro substitution of guide {} for {} {} {} differs from the legacy pipeline. Using the legacy result",
+                        guideRender.guide().getSlug(), option.getBuildTool(), option.getLanguage(), option.getTestFramework());
+                return legacy;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies every {@link MacroSubstitution} instance to the whole string in sequence.
+     *
+     * @param str         the string to substitute
+     * @param guideRender Guide
+     * @return the substituted string
+     */
+    @NonNull
+    String legacySubstitute(@NonNull String str, @NonNull GuideRender guideRender) {
         String result = str;
         for (MacroSubstitution substitution : substitutions) {
             result = substitution.substitute(result, guideRender);
         }
         return result;
     }
+
+    private String optionIndependentSubstitute(String str, GuideRender guideRender) {
+        if (optionIndependentPhases.isEmpty()) {
+            return str;
+        }
+        GuideDocument key = new GuideDocument(guideRender.guide(), str);
+        String result = optionIndependentCache.get(key);
+        if (result == null) {
+            result = str;
+            for (Phase phase : optionIndependentPhases) {
+                result = phase.substitute(result, guideRender);
+            }
+            optionIndependentCache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Splits the substitutions into phases by order. Substitutions which do not depend on the option are moved to the
+     * option independent phases as long as every substitution with a lower order is option independent too.
+     * Substitutions with the same order are not ordered between them, so the option independent ones of the first
+     * phase which has option dependent substitutions can run before those.
+     */
+    private void splitPhases(List<MacroSubstitution> substitutions) {
+        Map<Integer, List<MacroSubstitution>> byOrder = new TreeMap<>();
+        for (MacroSubstitution substitution : substitutions) {
+            byOrder.computeIfAbsent(substitution.getOrder(), order -> new ArrayList<>()).add(substitution);
+        }
+        boolean optionIndependent = true;
+        for (List<MacroSubstitution> sameOrder : byOrder.values()) {
+            Phase independent = new Phase();
+            Phase dependent = new Phase();
+            for (MacroSubstitution substitution : sameOrder) {
+                (optionIndependent && !substitution.isOptionDependent() ? independent : dependent).add(substitution);
+            }
+            if (!independent.isEmpty()) {
+                optionIndependentPhases.add(independent);
+            }
+            if (!dependent.isEmpty()) {
+                optionDependentPhases.add(dependent);
+                optionIndependent = false;
+            }
+        }
+    }
+
+    /**
+     * Guide document whose option independent substitution is cached. Guides are compared by identity.
+     *
+     * @param guide    the guide
+     * @param asciidoc the guide document before substitution
+     */
+    private record GuideDocument(Guide guide, String asciidoc) {
+    }
+
+    /**
+     * Substitutions sharing the same order.
+     */
+    private static final class Phase {
+        private final Map<String, SingleLineMacroSubstitution> lineSubstitutions = new HashMap<>();
+        private final List<MacroSubstitution> documentSubstitutions = new ArrayList<>();
+        private int maxMacroNameLength;
+
+        void add(MacroSubstitution substitution) {
+            if (substitution instanceof SingleLineMacroSubstitution lineSubstitution
+                    && lineSubstitutions.putIfAbsent(lineSubstitution.getLineMacroName(), lineSubstitution) == null) {
+                maxMacroNameLength = Math.max(maxMacroNameLength, lineSubstitution.getLineMacroName().length());
+            } else {
+                documentSubstitutions.add(substitution);
+            }
+        }
+
+        boolean isEmpty() {
+            return lineSubstitutions.isEmpty() && documentSubstitutions.isEmpty();
+        }
+
+        String substitute(String str, GuideRender guideRender) {
+            String result = lineSubstitutions.isEmpty() ? str : substituteLines(str, guideRender);
+            for (MacroSubstitution substitution : documentSubstitutions) {
+                result = substitution.substitute(result, guideRender);
+            }
+            return result;
+        }
+
+        private String substituteLines(String str, GuideRender guideRender) {
+            StringBuilder sb = null;
+            int length = str.length();
+            int start = 0;
+            while (start < length) {
+                int end = str.indexOf(LINE_BREAK, start);
+                if (end == -1) {
+                    end = length;
+                }
+                int contentEnd = end > start && str.charAt(end - 1) == CARRIAGE_RETURN ? end - 1 : end;
+                String replacement = substituteLine(str, start, contentEnd, guideRender);
+                if (replacement != null) {
+                    if (sb == null) {
+                        sb = new StringBuilder(length + 1024);
+                        sb.append(str, 0, start);
+                    }
+                    sb.append(replacement).append(str, contentEnd, Math.min(end + 1, length));
+                } else if (sb != null) {
+                    sb.append(str, start, Math.min(end + 1, length));
+                }
+                start = end + 1;
+            }
+            return sb == null ? str : sb.toString();
+        }
+
+        private String substituteLine(String str, int start, int end, GuideRender guideRender) {
+            int limit = Math.min(end, start + maxMacroNameLength + 1);
+            for (int i = start; i < limit; i++) {
+                if (str.charAt(i) == MACRO_NAME_SEPARATOR) {
+                    SingleLineMacroSubstitution substitution = lineSubstitutions.get(str.substring(start, i));
+                    return substitution != null ? substitution.substituteLine(str.substring(start, end), guideRender) : null;
+                }
+            }
+            return null;
+        }
+    }
 }
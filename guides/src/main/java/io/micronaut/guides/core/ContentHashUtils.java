@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Utility class to compute content hashes of files and directory trees.
+ * The hash covers the relative path and the bytes of every regular file, visited in a sorted order, so it does not depend on timestamps or on the file system listing order.
+ */
+final class ContentHashUtils {
+    private static final String ALGORITHM = "SHA-256";
+    private static final byte SEPARATOR = 0;
+
+    private ContentHashUtils() {
+    }
+
+    /**
+     * Computes a hash of the contents of the given files or directories.
+     *
+     * @param roots  files or directories to hash. Missing roots contribute to the hash as missing.
+     * @param extras additional values such as configuration which affect the generated output
+     * @return the hexadecimal representation of the hash
+     * @throws IOException if an I/O error occurs reading the files
+     */
+    @NonNull
+    static String hash(@NonNull List<File> roots, @NonNull String... extras) throws IOException {
+        MessageDigest digest = newDigest();
+        for (String extra : extras) {
+            update(digest, extra);
+        }
+        for (File root : roots) {
+            update(digest, root.toPath());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes a hash of named contents, such as the entries of an archive.
+     *
+     * @param names    the names of the contents
+     * @param contents the contents, in the same order as the names
+     * @param extras   additional values such as configuration which affect the generated output
+     * @return the hexadecimal representation of the hash
+     */
+    @NonNull
+    static String hash(@NonNull List<String> names, @NonNull List<byte[]> contents, @NonNull String... extras) {
+        MessageDigest digest = startHash(extras);
+        for (int i = 0; i < names.size(); i++) {
+            updateHash(digest, names.get(i), contents.get(i));
+        }
+        return finishHash(digest);
+    }
+
+    /**
+     * Starts a hash of named contents which are added one at a time, so the contents do not need to be held in memory together.
+     * The result is the same as {@link #hash(List, List, String...)} for the same contents.
+     *
+     * @param extras additional values such as configuration which affect the generated output
+     * @return the digest to update with {@link #updateHash(MessageDigest, String, byte[])}
+     */
+    @NonNull
+    static MessageDigest startHash(@NonNull String... extras) {
+        MessageDigest digest = newDigest();
+        for (String extra : extras) {
+            update(digest, extra);
+        }
+        return digest;
+    }
+
+    /**
+     * Adds a named content to a hash started with {@link #startHash(String...)}.
+     *
+     * @param digest  the digest
+     * @param name    the name of the content
+     * @param content the content
+     */
+    static void updateHash(@NonNull MessageDigest digest, @NonNull String name, @NonNull byte[] content) {
+        update(digest, name);
+        update(digest, String.valueOf(content.length));
+        digest.update(content);
+    }
+
+    /**
+     * @param digest a digest started with {@link #startHash(String...)}
+     * @return the hexadecimal representation of the hash
+     */
+    @NonNull
+    static String finishHash(@NonNull MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, Path root) throws IOException {
+        update(digest, String.valueOf(root.getFileName()));
+        if (!Files.exists(root)) {
+            update(digest, "missing");
+            return;
+        }
+        if (Files.isRegularFile(root)) {
+            digest.update(Files.readAllBytes(root));
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+            files = stream.filter(Files::isRegularFile)
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            update(digest, root.relativize(file).toString().replace(File.separatorChar, '/'));
+            byte[] bytes = Files.readAllBytes(file);
+            update(digest, String.valueOf(bytes.length));
+            digest.update(bytes);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update(SEPARATOR);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
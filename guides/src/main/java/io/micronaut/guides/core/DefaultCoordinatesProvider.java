@@ -16,31 +16,152 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.build.dependencies.Coordinate;
 import io.micronaut.starter.build.dependencies.PomDependencyVersionResolver;
+import io.micronaut.starter.util.VersionInfo;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
- * Interface for generating test scripts for guides.
- * This interface provides methods to check if an app or language supports native tests,
- * if an app uses the Micronaut framework, and to generate scripts for running tests.
+ * Default implementation of {@link CoordinatesProvider}.
+ * The coordinates are resolved once by the {@link PomDependencyVersionResolver} of the Micronaut Starter and shared by every caller.
+ * If {@link GuidesConfiguration#getCoordinatesCache()} is set, they are also persisted to that file and reused by later runs of the same Starter version.
  */
 @Singleton
 public class DefaultCoordinatesProvider implements CoordinatesProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultCoordinatesProvider.class);
+    private static final String STARTER_VERSION_KEY = "starter.version";
+    private static final String SEPARATOR = ":";
+
+    private final GuidesConfiguration guidesConfiguration;
+    private volatile Map<String, Coordinate> coordinates;
+
+    /**
+     * Constructs a new DefaultCoordinatesProvider.
+     *
+     * @param guidesConfiguration the guides configuration
+     */
+    public DefaultCoordinatesProvider(GuidesConfiguration guidesConfiguration) {
+        this.guidesConfiguration = guidesConfiguration;
+    }
 
     /**
      * Retrieves the coordinates for dependencies by utilizing the PomDependencyVersionResolver.
+     * They are resolved on the first call and the same unmodifiable map is returned afterwards.
      *
      * @return a map containing the coordinates of dependencies
      */
     @Override
     public Map<String, Coordinate> getCoordinates() {
+        Map<String, Coordinate> result = coordinates;
+        if (result == null) {
+            synchronized (this) {
+                result = coordinates;
+                if (result == null) {
+                    result = Collections.unmodifiableMap(new LinkedHashMap<>(loadCoordinates()));
+                    coordinates = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Coordinate> loadCoordinates() {
+        File cache = guidesConfiguration.getCoordinatesCache();
+        if (cache == null) {
+            return resolveCoordinates();
+        }
+        String starterVersion = starterVersion();
+        Map<String, Coordinate> cached = readCache(cache, starterVersion);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, Coordinate> resolved = resolveCoordinates();
+        writeCache(cache, starterVersion, resolved);
+        return resolved;
+    }
+
+    private static Map<String, Coordinate> resolveCoordinates() {
         try (ApplicationContext context = ApplicationContext.run()) {
             PomDependencyVersionResolver pomDependencyVersionResolver = context.getBean(PomDependencyVersionResolver.class);
             return pomDependencyVersionResolver.getCoordinates();
         }
     }
-}
 
+    @Nullable
+    private static Map<String, Coordinate> readCache(@NonNull File cache, @NonNull String starterVersion) {
+        if (!cache.isFile()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(cache.toPath())) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            LOG.warn("Could not read the coordinates cache {}", cache, e);
+            return null;
+        }
+        if (!starterVersion.equals(properties.getProperty(STARTER_VERSION_KEY))) {
+            LOG.debug("Ignoring the coordinates cache {} written by a different Micronaut Starter version", cache);
+            return null;
+        }
+        Map<String, Coordinate> result = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.equals(STARTER_VERSION_KEY)) {
+                continue;
+            }
+            String[] parts = properties.getProperty(key).split(SEPARATOR, -1);
+            if (parts.length != 5) {
+                LOG.warn("Ignoring the coordinates cache {} because of the malformed entry {}", cache, key);
+                return null;
+            }
+            try {
+                String version = parts[2].isEmpty() ? null : parts[2];
+                result.put(key, new Coordinate(parts[0], parts[1], version, Integer.parseInt(parts[3]), Boolean.parseBoolean(parts[4])));
+            } catch (NumberFormatException e) {
+                LOG.warn("Ignoring the coordinates cache {} because of the malformed entry {}", cache, key);
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private static void writeCache(@NonNull File cache, @NonNull String starterVersion, @NonNull Map<String, Coordinate> coordinates) {
+        Properties properties = new Properties();
+        properties.setProperty(STARTER_VERSION_KEY, starterVersion);
+        coordinates.forEach((key, coordinate) -> properties.setProperty(key, String.join(SEPARATOR,
+                coordinate.getGroupId(),
+                coordinate.getArtifactId(),
+                coordinate.getVersion() == null ? "" : coordinate.getVersion(),
+                String.valueOf(coordinate.getOrder()),
+                String.valueOf(coordinate.isPom()))));
+        try {
+            File parent = cache.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+            try (OutputStream outputStream = Files.newOutputStream(cache.toPath())) {
+                properties.store(outputStream, "Dependency coordinates resolved by the Micronaut Starter");
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not write the coordinates cache {}", cache, e);
+        }
+    }
+
+    private static String starterVersion() {
+        String implementationVersion = PomDependencyVersionResolver.class.getPackage().getImplementationVersion();
+        return VersionInfo.getMicronautVersion() + SEPARATOR + (implementationVersion == null ? "unknown" : implementationVersion);
+    }
+}
@@ -17,7 +17,7 @@ package io.micronaut.guides.core;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -25,16 +25,24 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 
 /**
  * Class that provides utility methods for transferring files.
+ * The guide directory is indexed once per guide and the index is reused for every option and app.
+ * Files are copied with the {@link GuidesConfiguration#getCopyStrategy()}, except the Java, Groovy and Kotlin sources, which are copied with their license header.
+ * The files excluded by the apps are filtered out while copying, see {@link SourceExclusions}.
  */
 @Internal
 @Singleton
@@ -43,6 +51,7 @@ class DefaultFilesTransferUtility implements FilesTransferUtility {
     private static final String EXTENSION_JAVA = ".java";
     private static final String EXTENSION_GROOVY = ".groovy";
     private static final String EXTENSION_KT = ".kt";
+    private static final String SRC_FOLDER = "src";
 
     private final LicenseLoader licenseLoader;
     private final GuidesConfiguration guidesConfiguration;
@@ -59,57 +68,50 @@ class DefaultFilesTransferUtility implements FilesTransferUtility {
     }
 
     /**
-     * Checks if a file contains the specified text.
+     * Copies guide source files from the indexed input directory to the destination path.
      *
-     * @param file the file to check
-     * @param text the text to look for
-     * @return true if the file contains the text, false otherwise
-     */
-    private static boolean fileContainsText(File file, String text) {
-        try {
-            return new String(Files.readAllBytes(file.toPath())).contains(text);
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    /**
-     * Copies guide source files from the input directory to the destination path.
-     *
-     * @param inputDir                 the input directory
-     * @param destinationPath          the destination path
-     * @param appName                  the application name
-     * @param language                 the programming language
-     * @param ignoreMissingDirectories whether to ignore missing directories
+     * @param index           the index of the input directory
+     * @param destinationPath the destination path
+     * @param appName         the application name
+     * @param language        the programming language
+     * @param excluded        predicate matching the excluded files by their path relative to the destination path
+     * @param licensed        the sources copied with their license header, to which the copied sources are added
      * @throws IOException if an I/O error occurs during file copy
      */
-    private static void copyGuideSourceFiles(File inputDir, Path destinationPath, String appName, String language, boolean ignoreMissingDirectories) throws IOException {
+    private void copyGuideSourceFiles(GuideFileIndex index, Path destinationPath, String appName, String language, Predicate<String> excluded, Set<Path> licensed) throws IOException {
+        String appFolder = appName.isEmpty() ? EMPTY_STRING : appName + "/";
 
         // look for a common 'src' directory shared by multiple languages and copy those files first
-        final String srcFolder = "src";
-        Path srcPath = Paths.get(inputDir.getAbsolutePath(), appName, srcFolder);
-        if (Files.exists(srcPath)) {
-            Files.walkFileTree(srcPath, new CopyFileVisitor(Paths.get(destinationPath.toString(), srcFolder)));
-        }
-
-        Path sourcePath = Paths.get(inputDir.getAbsolutePath(), appName, language);
+        copyFiles(index, appFolder + SRC_FOLDER, destinationPath.resolve(SRC_FOLDER), path -> excluded.test(SRC_FOLDER + "/" + path), licensed);
 
-        if (Files.exists(sourcePath)) {
-            // copy source/resource files for the current language
-            Files.walkFileTree(sourcePath, new CopyFileVisitor(destinationPath));
-        }
+        // copy source/resource files for the current language
+        copyFiles(index, appFolder + language, destinationPath, excluded, licensed);
     }
 
     /**
-     * Returns a file to be deleted based on the destination and path.
+     * Copies the files below a directory of the index to the target path, keeping their relative paths.
+     * Excluded files are skipped, so they are never written.
      *
-     * @param destination the destination directory
-     * @param path        the path of the file to delete
-     * @return the file to delete
+     * @param index      the index of the input directory
+     * @param directory  the directory, relative to the indexed directory
+     * @param targetPath the target path
+     * @param excluded   predicate matching the excluded files by their path relative to the target path
+     * @param licensed   the sources copied with their license header, to which the copied sources are added
+     * @throws IOException if an I/O error occurs during file copy
      */
-    private static File fileToDelete(File destination, String path) {
-        return Paths.get(destination.getAbsolutePath(), path).toFile();
+    private void copyFiles(GuideFileIndex index, String directory, Path targetPath, Predicate<String> excluded, Set<Path> licensed) throws IOException {
+        Set<Path> directories = new HashSet<>();
+        for (String file : index.filesIn(directory)) {
+            if (excluded.test(file)) {
+                LOG.trace("Skipping excluded file {}", file);
+                continue;
+            }
+            Path target = targetPath.resolve(file);
+            if (directories.add(target.getParent())) {
+                Files.createDirectories(target.getParent());
+            }
+            copy(index.resolve(directory + "/" + file), target, licensed);
+        }
     }
 
     /**
@@ -117,32 +119,42 @@ class DefaultFilesTransferUtility implements FilesTransferUtility {
      *
      * @param inputDir        the input directory
      * @param destinationRoot the destination root
-     * @param filePath        the file path
+     * @param filePath        the file path, relative to the input directory
+     * @param licensed        the sources copied with their license header, to which the copied source is added
      * @throws IOException if an I/O error occurs during file copy
      */
-    private static void copyFile(File inputDir, File destinationRoot, String filePath) throws IOException {
+    private void copyFile(File inputDir, File destinationRoot, String filePath, Set<Path> licensed) throws IOException {
         File sourceFile = new File(inputDir, filePath);
-        copyFile(inputDir, destinationRoot, sourceFile);
+        File destinationFile = new File(destinationRoot, filePath);
+
+        File destinationFileDir = destinationFile.getParentFile();
+        if (!destinationFileDir.exists()) {
+            Files.createDirectories(destinationFileDir.toPath());
+        }
+
+        copy(sourceFile.toPath(), destinationFile.toPath(), licensed);
     }
 
     /**
-     * Copies a file from the input directory to the destination root.
+     * Copies a file with the configured {@link FileCopyStrategy}.
+     * Sources which need a license header are always copied, and the header is written during the copy.
      *
-     * @param inputDir        the input directory
-     * @param destinationRoot the destination root
-     * @param sourceFile      sourceFile
+     * @param source   the file to copy
+     * @param target   the target file
+     * @param licensed the sources copied with their license header, to which the target is added if it is a source
      * @throws IOException if an I/O error occurs during file copy
      */
-    private static void copyFile(File inputDir, File destinationRoot, File sourceFile) throws IOException {
-        String filePath = sourceFile.getAbsolutePath().substring(inputDir.getAbsolutePath().length());
-        File destinationFile = new File(destinationRoot, filePath);
-
-        File destinationFileDir = destinationFile.getParentFile();
-        if (!destinationFileDir.exists()) {
-            Files.createDirectories(destinationFileDir.toPath());
+    private void copy(Path source, Path target, Set<Path> licensed) throws IOException {
+        if (isLicenseCandidate(target.getFileName().toString())) {
+            LicenseHeaderUtils.copyWithLicenseHeader(source, target, licenseLoader.getLicenseHeaderText());
+            licensed.add(target.toAbsolutePath().normalize());
+        } else {
+            guidesConfiguration.getCopyStrategy().copy(source, target);
         }
+    }
 
-        Files.copy(sourceFile.toPath(), destinationFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    private static boolean isLicenseCandidate(String path) {
+        return path.endsWith(EXTENSION_JAVA) || path.endsWith(EXTENSION_GROOVY) || path.endsWith(EXTENSION_KT);
     }
 
     /**
@@ -159,117 +171,122 @@ class DefaultFilesTransferUtility implements FilesTransferUtility {
                               @NotNull @NonNull Guide guide,
                               @NotNull @NonNull List<? extends Guide> guides) throws IOException {
         List<GuidesOption> guidesOptionList = GuideGenerationUtils.guidesOptions(guide, LOG);
+        GuideFileIndex index = GuideFileIndex.of(inputDirectory);
+        GuideFileIndex baseIndex = baseIndex(guide, guides);
+        List<String> zipIncludeExtensionFiles = index.filesWithExtensions(guidesConfiguration.getZipIncludesExtensions());
         for (GuidesOption guidesOption : guidesOptionList) {
+            Set<Path> licensed = new HashSet<>();
             for (App app : guide.getApps()) {
                 String appName = guide.getApps().size() > 1 ? app.getName() : EMPTY_STRING;
                 String folder = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
                 String module = guide.getSourceModule() != null ? guide.getSourceModule() : "";
                 Path destinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder, appName, module);
-                File destination = destinationPath.toFile();
-
-                if (guide.getBase() != null) {
-                    guides.stream()
-                            .filter(g -> g.getSlug().equals(guide.getBase()))
-                            .findFirst()
-                            .ifPresent(parentGuide -> {
-                                File baseDir = parentGuide.getFolder();
-                                String baseModule = guide.getBaseSourceModule() != null ? guide.getBaseSourceModule() : module;
-                                Path baseDestinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder, appName, baseModule);
-                                try {
-                                    copyGuideSourceFiles(baseDir, baseDestinationPath, appName, guidesOption.getLanguage().toString(), true);
-                                } catch (IOException e) {
-                                    throw new RuntimeException(e);
-                                }
-                            });
-
-                }
 
-                copyGuideSourceFiles(inputDirectory, destinationPath, appName, guidesOption.getLanguage().toString(), false);
+                SourceExclusions exclusions = SourceExclusions.of(guide, app, guidesOption);
 
-                if (app.getExcludeSource() != null) {
-                    deleteFiles(app.getExcludeSource(), destination, app, guidesOption, guidesConfiguration, "main");
-                }
-
-                if (app.getExcludeBaseSource() != null) {
-                    String baseModule = guide.getBaseSourceModule() != null ? guide.getBaseSourceModule() : module;
-                    Path baseDestinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder, appName, baseModule);
-                    deleteFiles(app.getExcludeBaseSource(), baseDestinationPath.toFile(), app, guidesOption, guidesConfiguration, "main");
-                }
-
-                if (app.getExcludeTest() != null) {
-                    deleteFiles(app.getExcludeTest(), destination, app, guidesOption, guidesConfiguration, "test");
-                }
-
-                if (app.getExcludeBaseTest() != null) {
+                if (baseIndex != null) {
                     String baseModule = guide.getBaseSourceModule() != null ? guide.getBaseSourceModule() : module;
                     Path baseDestinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder, appName, baseModule);
-                    deleteFiles(app.getExcludeBaseTest(), baseDestinationPath.toFile(), app, guidesOption, guidesConfiguration, "test");
+                    copyGuideSourceFiles(baseIndex, baseDestinationPath, appName, guidesOption.getLanguage().toString(),
+                            exclusions.under(SourceExclusions.baseModulePrefix(guide)), licensed);
                 }
 
+                copyGuideSourceFiles(index, destinationPath, appName, guidesOption.getLanguage().toString(),
+                        exclusions.under(SourceExclusions.modulePrefix(guide)), licensed);
 
                 File destinationRoot = new File(outputDirectory.getAbsolutePath(), folder);
                 if (guide.getZipIncludes() != null) {
                     for (String zipInclude : guide.getZipIncludes()) {
-                        copyFile(inputDirectory, destinationRoot, zipInclude);
+                        copyFile(inputDirectory, destinationRoot, zipInclude, licensed);
                     }
                 }
-                for (File f : walkZipIncludeExtensions(inputDirectory)) {
-                    copyFile(inputDirectory, destinationRoot, f);
+                for (String zipIncludeExtensionFile : zipIncludeExtensionFiles) {
+                    copyFile(inputDirectory, destinationRoot, zipIncludeExtensionFile, licensed);
                 }
-                addLicenses(new File(outputDirectory.getAbsolutePath(), folder));
             }
+            addLicenses(new File(outputDirectory.getAbsolutePath(), MacroUtils.getSourceDir(guide.getSlug(), guidesOption)), licensed);
         }
     }
 
-    private void deleteFiles(List<String> sources, File destination, App app, GuidesOption guidesOption, GuidesConfiguration guidesConfiguration, String pathType) {
-        if (sources.size() == 1 && sources.get(0).equals("*")) {
-            File destinationFolder = new File(destination, "src/" + pathType);
-            //delete all files in the destination folder and its subfolders
-            if (destinationFolder.exists()) {
-                Arrays.stream(destinationFolder.listFiles()).forEach(file -> {
-                    if (file.isDirectory()) {
-                        try {
-                            Files.walk(file.toPath())
-                                    .sorted(Comparator.reverseOrder())
-                                    .map(Path::toFile)
-                                    .forEach(File::delete);
-                        } catch (IOException e) {
-                            LOG.warn("Failed to delete directory {}", file, e);
-                        }
-                    } else {
-                        file.delete();
-                    }
-                });
+    /**
+     * Indexes the guide directory and the directory of its base guide once, to add their files to the projects of the options assembled in memory.
+     * The files are laid out as {@link #transferFiles(File, File, Guide, List)} writes them in the folder of each option.
+     * The guide sources excluded by the apps are left out, and the license header is added to the Java, Groovy and Kotlin sources when they are read.
+     *
+     * @param inputDirectory the directory containing the guide files
+     * @param guide          the guide metadata
+     * @param guides         the guides being rendered
+     * @return the indexed files of the guide
+     * @throws IOException if an I/O error occurs indexing the guide files
+     */
+    @Override
+    @NonNull
+    public ProjectFiles projectFiles(@NotNull @NonNull File inputDirectory,
+                                     @NotNull @NonNull Guide guide,
+                                     @NotNull @NonNull List<? extends Guide> guides) throws IOException {
+        GuideFileIndex index = GuideFileIndex.of(inputDirectory);
+        GuideFileIndex baseIndex = baseIndex(guide, guides);
+        List<String> zipIncludeExtensionFiles = index.filesWithExtensions(guidesConfiguration.getZipIncludesExtensions());
+        String licenseHeader = licenseLoader.getLicenseHeaderText();
+        return (project, guidesOption) -> {
+            String language = guidesOption.getLanguage().toString();
+            for (App app : guide.getApps()) {
+                String appName = guide.getApps().size() > 1 ? app.getName() : EMPTY_STRING;
+                String appPrefix = appName.isEmpty() ? EMPTY_STRING : appName + "/";
+                SourceExclusions exclusions = SourceExclusions.of(guide, app, guidesOption);
+                if (baseIndex != null) {
+                    String baseModule = SourceExclusions.baseModulePrefix(guide);
+                    addGuideSourceFiles(baseIndex, project, appPrefix + baseModule, appName, language, exclusions.under(baseModule));
+                }
+                String module = SourceExclusions.modulePrefix(guide);
+                addGuideSourceFiles(index, project, appPrefix + module, appName, language, exclusions.under(module));
+            }
+            if (guide.getZipIncludes() != null) {
+                for (String zipInclude : guide.getZipIncludes()) {
+                    project.addFile(zipInclude, new File(inputDirectory, zipInclude).toPath());
+                }
+            }
+            for (String zipIncludeExtensionFile : zipIncludeExtensionFiles) {
+                project.addFile(zipIncludeExtensionFile, index.resolve(zipIncludeExtensionFile));
             }
+            project.addLicenseHeader(DefaultFilesTransferUtility::isLicenseCandidate, licenseHeader);
+        };
+    }
 
-            return;
+    /**
+     * Adds the guide source files of an app to a project, as {@link #copyGuideSourceFiles(GuideFileIndex, Path, String, String, Predicate, Set)} copies them.
+     *
+     * @param index    the index of the input directory
+     * @param project  the project
+     * @param prefix   the relative path of the sources in the project, followed by '/' unless empty
+     * @param appName  the application name
+     * @param language the programming language
+     * @param excluded predicate matching the excluded files by their path relative to the prefix
+     */
+    private static void addGuideSourceFiles(GuideFileIndex index, ProjectOverlay project, String prefix, String appName, String language, Predicate<String> excluded) {
+        String appFolder = appName.isEmpty() ? EMPTY_STRING : appName + "/";
+        for (String file : index.filesIn(appFolder + SRC_FOLDER)) {
+            String path = SRC_FOLDER + "/" + file;
+            if (!excluded.test(path)) {
+                project.addFile(prefix + path, index.resolve(appFolder + path));
+            }
         }
-
-        for (String source : sources) {
-            String path = pathByFolder(app, source, pathType, guidesOption);
-            File file = fileToDelete(destination, path);
-            if (file.exists()) {
-                file.delete();
-            } else {
-                LOG.warn("File {} to delete does not exist", file);
+        for (String file : index.filesIn(appFolder + language)) {
+            if (!excluded.test(file)) {
+                project.addFile(prefix + file, index.resolve(appFolder + language + "/" + file));
             }
         }
     }
 
-    private List<File> walkZipIncludeExtensions(File dir) {
-        List<File> result = new ArrayList<>();
-        File[] list = dir.listFiles();
-        if (ArrayUtils.isEmpty(list)) {
-            return Collections.emptyList();
+    @Nullable
+    private static GuideFileIndex baseIndex(Guide guide, List<? extends Guide> guides) throws IOException {
+        if (guide.getBase() == null) {
+            return null;
         }
-        for (File f : list) {
-            if (f.isDirectory()) {
-                result.addAll(walkZipIncludeExtensions(f));
-            } else if (guidesConfiguration.getZipIncludesExtensions().stream().anyMatch(ext -> f.getName().endsWith(ext))) {
-                result.add(f);
-            }
-        }
-        return result;
+        Optional<? extends Guide> parentGuide = guides.stream()
+                .filter(g -> g.getSlug().equals(guide.getBase()))
+                .findFirst();
+        return parentGuide.isPresent() ? GuideFileIndex.of(parentGuide.get().getFolder()) : null;
     }
 
     /**
@@ -296,22 +313,83 @@ class DefaultFilesTransferUtility implements FilesTransferUtility {
     }
 
     /**
-     * Adds license headers to the files in the specified folder.
+     * Adds license headers to the Java, Groovy and Kotlin sources below the specified folder.
      *
      * @param folder the folder containing the files to which license headers will be added
+     * @return the result of every source
+     * @throws IOException if the folder cannot be walked or license headers cannot be added
      */
-    void addLicenses(File folder) {
+    List<LicenseResult> addLicenses(File folder) throws IOException {
+        return addLicenses(folder, Collections.emptySet());
+    }
+
+    /**
+     * Adds license headers to the Java, Groovy and Kotlin sources below the specified folder, except the sources already copied with their license header.
+     * Only the other sources, such as the ones generated by the starter, are read.
+     * The sources are processed concurrently, up to {@link GuidesConfiguration#getLicenseParallelism()} at a time, and the failures are reported together once every source was processed.
+     *
+     * @param folder   the folder containing the files to which license headers will be added
+     * @param licensed the absolute and normalized paths of the sources copied with their license header, which are skipped
+     * @return the result of every processed source
+     * @throws IOException if the folder cannot be walked or license headers cannot be added
+     */
+    List<LicenseResult> addLicenses(File folder, Set<Path> licensed) throws IOException {
+        if (!folder.isDirectory()) {
+            return Collections.emptyList();
+        }
         String licenseHeader = licenseLoader.getLicenseHeaderText();
-        Arrays.stream(folder.listFiles()).forEach(file -> {
-            if ((file.getPath().endsWith(EXTENSION_JAVA) || file.getPath().endsWith(EXTENSION_GROOVY) || file.getPath().endsWith(EXTENSION_KT))
-                    && !fileContainsText(file, "Licensed under")) {
-                try {
-                    String content = new String(Files.readAllBytes(file.toPath()));
-                    Files.write(file.toPath(), (licenseHeader + content).getBytes());
-                } catch (IOException e) {
-                    e.printStackTrace();
+        long start = System.nanoTime();
+        List<Path> sources = new ArrayList<>();
+        Files.walkFileTree(folder.toPath(), new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && isLicenseCandidate(file.getFileName().toString()) && !licensed.contains(file.toAbsolutePath().normalize())) {
+                    sources.add(file);
                 }
+                return FileVisitResult.CONTINUE;
             }
         });
+
+        LicenseResult[] results = new LicenseResult[sources.size()];
+        List<Callable<Void>> tasks = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            int index = i;
+            Path source = sources.get(i);
+            tasks.add(() -> {
+                long sourceStart = System.nanoTime();
+                boolean added;
+                try {
+                    added = LicenseHeaderUtils.addLicenseHeader(source, licenseHeader);
+                } catch (IOException e) {
+                    throw new IOException("Failed to add the license header to " + source, e);
+                }
+                results[index] = new LicenseResult(source, added, Duration.ofNanos(System.nanoTime() - sourceStart));
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("{} license header of {} in {} us", added ? "Added" : "Kept", source, results[index].duration().toNanos() / 1000);
+                }
+                return null;
+            });
+        }
+        ParallelUtils.invokeAll("Failed to add the license headers in " + folder, guidesConfiguration.getLicenseParallelism(), tasks);
+
+        List<LicenseResult> licenseResults = Arrays.asList(results);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Added license headers to {} of {} sources in {} in {} ms",
+                    licenseResults.stream().filter(LicenseResult::added).count(),
+                    licenseResults.size(),
+                    folder,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+        return licenseResults;
+    }
+
+    /**
+     * Result of the license header stage for a source file.
+     *
+     * @param file     the source file
+     * @param added    whether the license header was added, or the file already had one
+     * @param duration the time spent on the file
+     */
+    record LicenseResult(Path file, boolean added, Duration duration) {
     }
 }
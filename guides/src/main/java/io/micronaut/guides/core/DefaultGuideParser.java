@@ -15,14 +15,18 @@
  */
 package io.micronaut.guides.core;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.networknt.schema.InputFormat;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.json.tree.JsonNode;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -30,20 +34,42 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class that provides methods to parse guide metadata.
+ * Guides are discovered with a single walk of the guides directory and their metadata files are parsed concurrently, up to {@link GuidesConfiguration#getParallelism()} at a time.
+ * The guides are returned sorted by the path of their directory.
+ * Each metadata file is parsed with {@link #parseGuideMetadata(File, String)}.
+ * If {@link GuidesConfiguration#getMetadataCache()} is set, the metadata files which did not change since the previous run are neither read nor validated again, their cached content is read with {@link #readGuide(File, String, File, boolean)}.
  */
 @Singleton
 public class DefaultGuideParser implements GuideParser {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultGuideParser.class);
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("src", "build", "target", ".gradle", "node_modules");
+    private static final String METADATA_CACHE_FORMAT = "1";
     protected final GuidesConfiguration guidesConfiguration;
     protected final JsonSchema jsonSchema;
     protected final JsonMapper jsonMapper;
     protected final GuideMerger guideMerger;
+    @Nullable
+    private final String metadataCacheVersion;
+    private final boolean contentValidation;
 
     /**
      * Constructs a new DefaultGuideParser.
@@ -61,6 +87,8 @@ public class DefaultGuideParser implements GuideParser {
         this.jsonSchema = guidesConfiguration.isValidateMetadata() ? jsonSchemaProvider.getSchema() : null;
         this.jsonMapper = jsonMapper;
         this.guideMerger = guideMerger;
+        this.metadataCacheVersion = metadataCacheVersion(jsonSchema, guidesConfiguration.isValidateMetadata());
+        this.contentValidation = overridesContentValidation(getClass());
     }
 
     @Override
@@ -68,13 +96,35 @@ public class DefaultGuideParser implements GuideParser {
     public List<? extends Guide> parseGuidesMetadata(@NonNull @NotNull File guidesDir, @NonNull @NotNull String metadataConfigName) {
         List<Guide> metadatas = new ArrayList<>();
 
-        List<File> dirs = walk(guidesDir.getAbsolutePath());
-        if (dirs.isEmpty()) {
+        List<MetadataFile> files;
+        try {
+            files = walk(guidesDir.getAbsoluteFile().toPath(), metadataConfigName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list the guides of " + guidesDir, e);
+        }
+        if (files.isEmpty()) {
             return metadatas;
         }
 
-        for (File dir : dirs) {
-            parseGuideMetadata(dir, metadataConfigName).ifPresent(metadatas::add);
+        GuideMetadataCache cache = readMetadataCache();
+        Map<String, GuideMetadataCache.Entry> entries = new ConcurrentHashMap<>();
+        List<Optional<? extends Guide>> parsed = new ArrayList<>(Collections.nCopies(files.size(), Optional.empty()));
+        List<Callable<Void>> tasks = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            int index = i;
+            tasks.add(() -> {
+                parsed.set(index, parseGuideMetadata(files.get(index), cache, entries));
+                return null;
+            });
+        }
+        try {
+            ParallelUtils.invokeAll("Failed to parse the guides of " + guidesDir, guidesConfiguration.getParallelism(), tasks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writeMetadataCache(cache, entries);
+        for (Optional<? extends Guide> guide : parsed) {
+            guide.ifPresent(metadatas::add);
         }
 
         guideMerger.mergeGuides(metadatas);
@@ -82,21 +132,119 @@ public class DefaultGuideParser implements GuideParser {
         return metadatas;
     }
 
-    private List<File> walk(String path) {
-        List<File> result = new ArrayList<>();
-        File root = new File(path);
-        File[] list = root.listFiles();
-        if (ArrayUtils.isEmpty(list)) {
-            return Collections.emptyList();
+    private Optional<? extends Guide> parseGuideMetadata(MetadataFile metadataFile,
+                                                         GuideMetadataCache cache,
+                                                         Map<String, GuideMetadataCache.Entry> entries) {
+        File configFile = metadataFile.path().toFile();
+        File guidesDir = configFile.getParentFile();
+        String key = configFile.getPath();
+        GuideMetadataCache.Entry entry = cache.entries().get(key);
+        if (entry != null && entry.lastModified() == metadataFile.lastModified() && entry.size() == metadataFile.size()) {
+            entries.put(key, entry);
+            return entry.valid() ? readGuide(guidesDir, entry.content(), configFile, false) : Optional.empty();
+        }
+
+        Optional<? extends Guide> guide = parseGuideMetadata(guidesDir, configFile.getName());
+        if (guidesConfiguration.getMetadataCache() != null && metadataCacheVersion != null) {
+            try {
+                entries.put(key, new GuideMetadataCache.Entry(metadataFile.lastModified(), metadataFile.size(), guide.isPresent(), Files.readString(metadataFile.path())));
+            } catch (IOException e) {
+                LOG.trace("Could not cache the metadata of {}", configFile, e);
+            }
+        }
+        return guide;
+    }
+
+    private GuideMetadataCache readMetadataCache() {
+        File cacheFile = guidesConfiguration.getMetadataCache();
+        if (cacheFile == null || metadataCacheVersion == null || !cacheFile.exists()) {
+            return GuideMetadataCache.EMPTY;
+        }
+        try {
+            GuideMetadataCache cache = jsonMapper.readValue(Files.readAllBytes(cacheFile.toPath()), GuideMetadataCache.class);
+            return metadataCacheVersion.equals(cache.version()) ? cache : GuideMetadataCache.EMPTY;
+        } catch (IOException e) {
+            LOG.warn("Could not read the metadata cache {}. Parsing every guide.", cacheFile, e);
+            return GuideMetadataCache.EMPTY;
+        }
+    }
+
+    private void writeMetadataCache(GuideMetadataCache cache, Map<String, GuideMetadataCache.Entry> entries) {
+        File cacheFile = guidesConfiguration.getMetadataCache();
+        if (cacheFile == null || metadataCacheVersion == null || entries.equals(cache.entries())) {
+            return;
+        }
+        try {
+            Path cachePath = cacheFile.toPath().toAbsolutePath();
+            Files.createDirectories(cachePath.getParent());
+            Path tempFile = Files.createTempFile(cachePath.getParent(), cachePath.getFileName().toString(), ".tmp");
+            Files.write(tempFile, jsonMapper.writeValueAsBytes(new GuideMetadataCache(metadataCacheVersion, new TreeMap<>(entries))));
+            Files.move(tempFile, cachePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOG.warn("Could not write the metadata cache {}", cacheFile, e);
         }
-        for (File f : list) {
-            if (f.isDirectory()) {
-                result.addAll(walk(f.getAbsolutePath()));
-                if (new File(f, "metadata.json").exists()) {
-                    result.add(f);
+    }
+
+    /**
+     * The version of the metadata cache is a hash of the cache format, of whether the metadata is validated and of the JSON schema, which follows the guide model.
+     * The schema used for the validation is hashed when the metadata is validated, the one bundled in the classpath otherwise.
+     *
+     * @return the version of the metadata cache or {@code null} if there is no schema to hash, in which case the cache is not used
+     */
+    @Nullable
+    private static String metadataCacheVersion(@Nullable JsonSchema jsonSchema, boolean validateMetadata) {
+        byte[] schema;
+        if (jsonSchema != null) {
+            schema = jsonSchema.getSchemaNode().toString().getBytes(StandardCharsets.UTF_8);
+        } else {
+            try (InputStream inputStream = DefaultGuideParser.class.getClassLoader().getResourceAsStream(DefaultJsonSchemaProvider.CLASSPATH_SCHEMA)) {
+                if (inputStream == null) {
+                    LOG.debug("No JSON schema found in the classpath. The metadata cache is not used.");
+                    return null;
                 }
+                schema = inputStream.readAllBytes();
+            } catch (IOException e) {
+                LOG.warn("Could not read the JSON schema {}. The metadata cache is not used.", DefaultJsonSchemaProvider.CLASSPATH_SCHEMA, e);
+                return null;
             }
         }
+        MessageDigest digest = ContentHashUtils.startHash(METADATA_CACHE_FORMAT, String.valueOf(validateMetadata));
+        ContentHashUtils.updateHash(digest, "schema", schema);
+        return ContentHashUtils.finishHash(digest);
+    }
+
+    /**
+     * Lists the metadata files of the directories below the root, sorted by path.
+     * Source, build output and dependency directories are not visited.
+     */
+    private static List<MetadataFile> walk(Path root, String metadataConfigName) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+        List<MetadataFile> result = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(root) && SKIPPED_DIRECTORIES.contains(dir.getFileName().toString())
+                        ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!file.getParent().equals(root) && file.getFileName().toString().equals(metadataConfigName)) {
+                    result.add(new MetadataFile(file, attrs.lastModifiedTime().toMillis(), attrs.size()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                LOG.warn("Could not read {}", file, exc);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        result.sort(Comparator.comparing(MetadataFile::path));
         return result;
     }
 
@@ -122,16 +270,30 @@ public class DefaultGuideParser implements GuideParser {
     }
 
     /**
+     * Reads the guide metadata. The content is parsed once into a JSON tree, which is both bound to the guide and validated against the JSON Schema.
+     *
      * @param guidesDir  Guides directory
      * @param content    Metadata content
      * @param configFile Configuration file
      * @return Guide
      */
     protected Optional<? extends Guide> readGuide(File guidesDir, String content, File configFile) {
+        return readGuide(guidesDir, content, configFile, true);
+    }
+
+    /**
+     * @param guidesDir  Guides directory
+     * @param content    Metadata content
+     * @param configFile Configuration file
+     * @param validate   Whether the metadata is validated against the JSON Schema. It is not when the metadata was already validated by a previous run.
+     * @return Guide
+     */
+    protected Optional<? extends Guide> readGuide(File guidesDir, String content, File configFile, boolean validate) {
         Guide guide;
         try {
-            guide = jsonMapper.readValue(content, Guide.class);
-            if (!validateGuide(guide, content, configFile)) {
+            JsonNode tree = jsonMapper.readValue(content, JsonNode.class);
+            guide = jsonMapper.readValueFromTree(tree, Guide.class);
+            if (validate && !(contentValidation ? validateGuide(guide, content, configFile) : validateGuide(guide, tree, configFile))) {
                 return Optional.empty();
             }
         } catch (IOException e) {
@@ -143,24 +305,104 @@ public class DefaultGuideParser implements GuideParser {
     }
 
     /**
+     * Validates the metadata content. It is only called when a subclass overrides it, instead of {@link #validateGuide(Guide, JsonNode, File)}.
+     *
      * @param guide      Guide
      * @param content    Metadata content
      * @param configFile Configuration File
      * @param <T>        Guide
      * @return Whether the guide metadata validates against the JSON Schema
+     * @deprecated Override {@link #validateGuide(Guide, JsonNode, File)}, which validates the already parsed tree.
      */
+    @Deprecated
     protected <T extends Guide> boolean validateGuide(T guide, String content, File configFile) {
         if (guidesConfiguration.isValidateMetadata() && guide.isPublish() && jsonSchema != null) {
-            Set<ValidationMessage> assertions = jsonSchema.validate(content, InputFormat.JSON);
+            return isValid(jsonSchema.validate(content, InputFormat.JSON), configFile);
+        }
+        return true;
+    }
+
+    /**
+     * @param guide      Guide
+     * @param tree       Metadata content parsed as a JSON tree
+     * @param configFile Configuration File
+     * @param <T>        Guide
+     * @return Whether the guide metadata validates against the JSON Schema
+     */
+    protected <T extends Guide> boolean validateGuide(T guide, JsonNode tree, File configFile) {
+        if (guidesConfiguration.isValidateMetadata() && guide.isPublish() && jsonSchema != null) {
+            return isValid(jsonSchema.validate(toJacksonNode(tree)), configFile);
+        }
+        return true;
+    }
 
-            if (!assertions.isEmpty()) {
-                LOG.trace("Guide metadata {} does not validate the JSON Schema. Skipping guide.", configFile);
-                return false;
+    /**
+     * @param type the class of the parser
+     * @return whether a subclass overrides {@link #validateGuide(Guide, String, File)}, which then has to be called
+     */
+    private static boolean overridesContentValidation(Class<?> type) {
+        for (Class<?> c = type; c != DefaultGuideParser.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("validateGuide", Guide.class, String.class, File.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden by this class
             }
         }
+        return false;
+    }
+
+    private static boolean isValid(Set<ValidationMessage> assertions, File configFile) {
+        if (!assertions.isEmpty()) {
+            LOG.trace("Guide metadata {} does not validate the JSON Schema. Skipping guide.", configFile);
+            return false;
+        }
         return true;
     }
 
+    /**
+     * Converts a Micronaut JSON tree to the Jackson tree used by the JSON Schema validator, without serializing it back to text.
+     */
+    private static com.fasterxml.jackson.databind.JsonNode toJacksonNode(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = JsonNodeFactory.instance.objectNode();
+            for (Map.Entry<String, JsonNode> entry : node.entries()) {
+                object.set(entry.getKey(), toJacksonNode(entry.getValue()));
+            }
+            return object;
+        }
+        if (node.isArray()) {
+            ArrayNode array = JsonNodeFactory.instance.arrayNode(node.size());
+            for (JsonNode value : node.values()) {
+                array.add(toJacksonNode(value));
+            }
+            return array;
+        }
+        if (node.isString()) {
+            return JsonNodeFactory.instance.textNode(node.getStringValue());
+        }
+        if (node.isBoolean()) {
+            return JsonNodeFactory.instance.booleanNode(node.getBooleanValue());
+        }
+        if (node.isNumber()) {
+            Number number = node.getNumberValue();
+            if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+                return JsonNodeFactory.instance.numberNode(number.intValue());
+            }
+            if (number instanceof Long) {
+                return JsonNodeFactory.instance.numberNode(number.longValue());
+            }
+            if (number instanceof BigInteger bigInteger) {
+                return JsonNodeFactory.instance.numberNode(bigInteger);
+            }
+            if (number instanceof BigDecimal bigDecimal) {
+                return JsonNodeFactory.instance.numberNode(bigDecimal);
+            }
+            return JsonNodeFactory.instance.numberNode(number.doubleValue());
+        }
+        return JsonNodeFactory.instance.nullNode();
+    }
+
     /**
      * @param guidesDir Guide directory
      * @param guide     Guide
@@ -186,4 +428,14 @@ public class DefaultGuideParser implements GuideParser {
             }
         }
     }
+
+    /**
+     * Metadata file found while walking the guides directory.
+     *
+     * @param path         the metadata file
+     * @param lastModified the last modification time of the file, in milliseconds
+     * @param size         the size of the file in bytes
+     */
+    private record MetadataFile(Path path, long lastModified, long size) {
+    }
 }
@@ -25,7 +25,6 @@ import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
 import io.micronaut.starter.application.generator.ProjectGenerator;
 import io.micronaut.starter.io.ConsoleOutput;
-import io.micronaut.starter.io.FileSystemOutputHandler;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.JdkVersion;
 import io.micronaut.starter.options.Language;
@@ -43,7 +42,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 import static io.micronaut.http.HttpStatus.BAD_REQUEST;
@@ -58,14 +62,24 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultGuideProjectGenerator.class);
     private final GuidesConfiguration guidesConfiguration;
     private final ProjectGenerator projectGenerator;
+    private final Map<SkeletonKey, CompletableFuture<ProjectOverlay>> skeletons;
 
     DefaultGuideProjectGenerator(GuidesConfiguration guidesConfiguration, ProjectGenerator projectGenerator) {
         this.guidesConfiguration = guidesConfiguration;
         this.projectGenerator = projectGenerator;
+        int skeletonCacheSize = guidesConfiguration.getSkeletonCacheSize();
+        this.skeletons = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SkeletonKey, CompletableFuture<ProjectOverlay>> eldest) {
+                return size() > skeletonCacheSize;
+            }
+        };
     }
 
     /**
      * Generates the project files for the given guide in the specified output directory.
+     * The projects of every option and app are independent, so up to {@link GuidesConfiguration#getParallelism()} of them are generated concurrently.
+     * The starter {@link ProjectGenerator} is stateless and a new {@link GeneratorContext} is created for every project.
      *
      * @param outputDirectory the directory where the project files will be generated
      * @param guide           the guide containing the project details
@@ -90,9 +104,16 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
         }
 
         List<GuidesOption> guidesOptionList = GuideGenerationUtils.guidesOptions(guide, LOG);
+        List<Callable<Void>> tasks = new ArrayList<>();
         for (GuidesOption guidesOption : guidesOptionList) {
-            generate(outputDirectory, guide, guidesOption, javaVersion);
+            for (App app : guide.getApps()) {
+                tasks.add(() -> {
+                    generate(outputDirectory, guide, guidesOption, javaVersion, app);
+                    return null;
+                });
+            }
         }
+        ParallelUtils.invokeAll("Failed to generate the projects of " + guide.getSlug(), guidesConfiguration.getParallelism(), tasks);
     }
 
     /**
@@ -112,6 +133,7 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
 
     /**
      * Generates the project files for the given guide, guides option, and app in the specified output directory.
+     * The generated files excluded by the app, such as an application class replaced by the guide sources, are never written.
      *
      * @param outputDirectory the directory where the project files will be generated
      * @param guide           the guide containing the project details
@@ -121,37 +143,143 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
      * @throws IOException if an I/O error occurs during project generation
      */
     public void generate(@NonNull File outputDirectory, @NonNull Guide guide, @NonNull GuidesOption guidesOption, @NonNull JdkVersion javaVersion, @NonNull App app) throws IOException {
-        List<String> appFeatures = new ArrayList<>(app.features(guidesOption.getLanguage()));
-        if (!guidesConfiguration.getJdkVersionsSupportedByGraalvm().contains(javaVersion)) {
-            appFeatures.remove("graalvm");
-        }
-
         // typical guides use 'default' as name, multi-project guides have different modules
         String folder = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
 
         Path destinationPath = Paths.get(outputDirectory.getAbsolutePath(), folder,
                 guide.getApps().size() > 1 ? app.getName() : EMPTY_STRING);
-        File destination = destinationPath.toFile();
-        destination.mkdir();
+        generateAppProject(guide, guidesOption, javaVersion, app).writeTo(destinationPath);
+    }
+
+    /**
+     * Generates the projects of every app of the given guide and guides option in memory, each app in the folder {@link #generate(File, Guide)} writes it to.
+     * The generated files excluded by the apps are left out.
+     *
+     * @param guide        the guide containing the project details
+     * @param guidesOption the guides option containing additional configuration
+     * @return the generated projects, relative to the folder of the option, or an empty project if the guide is not generated for the configured JDK
+     * @throws IOException if an error occurs during project generation
+     */
+    @Override
+    @NonNull
+    public ProjectOverlay generateProject(@NonNull Guide guide, @NonNull GuidesOption guidesOption) throws IOException {
+        ProjectOverlay project = new ProjectOverlay();
+        if (GuideGenerationUtils.skipBecauseOfJavaVersion(guide, guidesConfiguration)) {
+            return project;
+        }
+        JdkVersion javaVersion = GuideGenerationUtils.resolveJdkVersion(guidesConfiguration, guide);
+        for (App app : guide.getApps()) {
+            project.addProject(guide.getApps().size() > 1 ? app.getName() : EMPTY_STRING, generateAppProject(guide, guidesOption, javaVersion, app));
+        }
+        return project;
+    }
+
+    private ProjectOverlay generateAppProject(Guide guide, GuidesOption guidesOption, JdkVersion javaVersion, App app) throws IOException {
+        ProjectOverlay project = generateProject(guide, guidesOption, javaVersion, app);
+        SourceExclusions exclusions = SourceExclusions.of(guide, app, guidesOption);
+        if (!exclusions.isEmpty()) {
+            project.removeIf(exclusions);
+        }
+        return project;
+    }
+
+    /**
+     * Generates the project files for the given guide, guides option, and app in memory.
+     * The starter output is cached by the inputs of the generation, up to {@link GuidesConfiguration#getSkeletonCacheSize()} skeletons, so guides sharing the same application, features and options usually generate their skeleton once.
+     *
+     * @param guide        the guide containing the project details
+     * @param guidesOption the guides option containing additional configuration
+     * @param javaVersion  the JDK version to be used for the project
+     * @param app          the app containing the application details
+     * @return the generated project
+     * @throws IOException if an error occurs during project generation
+     */
+    @NonNull
+    public ProjectOverlay generateProject(@NonNull Guide guide, @NonNull GuidesOption guidesOption, @NonNull JdkVersion javaVersion, @NonNull App app) throws IOException {
+        List<String> appFeatures = new ArrayList<>(app.features(guidesOption.getLanguage()));
+        if (!guidesConfiguration.getJdkVersionsSupportedByGraalvm().contains(javaVersion)) {
+            appFeatures.remove("graalvm");
+        }
 
-        String packageAndName = app.getPackageName() + '.' + app.getName();
-        GeneratorContext generatorContext = createProjectGeneratorContext(app.getApplicationType(),
-                packageAndName,
+        SkeletonKey key = new SkeletonKey(app.getApplicationType(),
+                app.getPackageName() + '.' + app.getName(),
                 app.getFramework(),
-                appFeatures,
+                List.copyOf(appFeatures),
                 guidesOption.getBuildTool(),
                 app.getTestFramework() != null ? app.getTestFramework() : guidesOption.getTestFramework(),
                 guidesOption.getLanguage(),
                 javaVersion);
+        return skeleton(key).copy();
+    }
+
+    /**
+     * Returns the skeleton of a key from the cache, generating it if needed.
+     * Concurrent requests for the same key wait for a single generation, and the least recently used skeletons are evicted once the cache holds {@link GuidesConfiguration#getSkeletonCacheSize()} of them.
+     *
+     * @param key the inputs of the generation
+     * @return the skeleton, which must not be modified
+     * @throws IOException if an error occurs during project generation
+     */
+    private ProjectOverlay skeleton(SkeletonKey key) throws IOException {
+        CompletableFuture<ProjectOverlay> future;
+        boolean owner = false;
+        synchronized (skeletons) {
+            future = skeletons.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                skeletons.put(key, future);
+                owner = true;
+            }
+        }
+        if (owner) {
+            try {
+                ProjectOverlay skeleton = generateSkeleton(key);
+                future.complete(skeleton);
+                return skeleton;
+            } catch (IOException | RuntimeException e) {
+                synchronized (skeletons) {
+                    skeletons.remove(key, future);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
         try {
-            projectGenerator.generate(app.getApplicationType(),
+            return future.join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to generate the project of " + key.packageAndName(), e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of skeletons in the cache
+     */
+    int cachedSkeletons() {
+        synchronized (skeletons) {
+            return skeletons.size();
+        }
+    }
+
+    private ProjectOverlay generateSkeleton(SkeletonKey key) throws IOException {
+        GeneratorContext generatorContext = createProjectGeneratorContext(key.applicationType(),
+                key.packageAndName(),
+                key.framework(),
+                key.features(),
+                key.buildTool(),
+                key.testFramework(),
+                key.language(),
+                key.javaVersion());
+        InMemoryOutputHandler outputHandler = new InMemoryOutputHandler();
+        try {
+            projectGenerator.generate(key.applicationType(),
                     generatorContext.getProject(),
-                    new FileSystemOutputHandler(destination, ConsoleOutput.NOOP),
+                    outputHandler,
                     generatorContext);
         } catch (Exception e) {
             LOG.error("Error generating application: " + e.getMessage(), e);
             throw new IOException(e.getMessage(), e);
         }
+        return outputHandler.getProject();
     }
 
     private GeneratorContext createProjectGeneratorContext(ApplicationType type, @Pattern(regexp = "[\\w\\d-_\\.]+") String packageAndName, @Nullable String framework, @Nullable List<String> features, @Nullable BuildTool buildTool, @Nullable TestFramework testFramework, @Nullable Language lang, @Nullable JdkVersion javaVersion) throws IllegalArgumentException {
@@ -175,4 +303,18 @@ public class DefaultGuideProjectGenerator implements GuideProjectGenerator {
                 ConsoleOutput.NOOP
         );
     }
+
+    /**
+     * Inputs of the starter project generation.
+     * The package and the name of the application are part of the key because the starter uses them in the source paths, the package declarations and the build files, so a skeleton cannot be safely reused for a different application name.
+     */
+    private record SkeletonKey(ApplicationType applicationType,
+                               String packageAndName,
+                               @Nullable String framework,
+                               List<String> features,
+                               @Nullable BuildTool buildTool,
+                               @Nullable TestFramework testFramework,
+                               @Nullable Language language,
+                               JdkVersion javaVersion) {
+    }
 }
@@ -15,67 +15,230 @@
  */
 package io.micronaut.guides.core;
 
+import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Singleton;
 import org.apache.commons.compress.archivers.zip.UnixStat;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
-import org.apache.commons.compress.utils.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipFile;
 
 /**
  * Default implementation of the {@link GuideProjectZipper} interface.
- * This class provides functionality to zip a directory into a single output file.
+ * This class provides functionality to zip a directory or a {@link ProjectOverlay} into a single output file.
+ * Entries are processed in windows of a few entries per worker: the entries of a window are read and deflated concurrently, up to {@link GuidesConfiguration#getParallelism()} at a time, and then written to the archive in order.
+ * Only the entries of the current window are held in memory, whatever the size of the archive.
+ * If {@link GuidesConfiguration#isReproducibleZips()} is enabled, the hash of the entries, including their unix modes, is stored as the archive comment and an existing archive with the same hash is kept as is.
+ * The hash is then computed in a first pass which only reads the files, so an unchanged archive is never rewritten.
  */
 @Singleton
 public class DefaultGuideProjectZipper implements GuideProjectZipper {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultGuideProjectZipper.class);
     private static final List<String> EXCLUDED_FILES = List.of(".idea", ".DS_Store");
     private static final List<String> EXECUTABLES = List.of("gradlew", "gradlew.bat", "mvnw", "mvnw.bat");
+    private static final int EXECUTABLE_MODE = UnixStat.FILE_FLAG | 0755;
+    private static final int FILE_MODE = UnixStat.FILE_FLAG | 0644;
+    /**
+     * Timestamp of the entries of reproducible zips, the same as Gradle uses for reproducible archives.
+     */
+    private static final long CONSTANT_TIME = new GregorianCalendar(1980, Calendar.FEBRUARY, 1, 0, 0, 0).getTimeInMillis();
+    private static final String HASH_COMMENT_PREFIX = "sha256:";
+    private static final int BUFFER_SIZE = 8192;
+    private static final int ENTRIES_PER_WORKER = 4;
+
+    private final GuidesConfiguration guidesConfiguration;
 
     /**
-     * Compresses the contents of the specified source directory into a zip file.
+     * Constructs a new DefaultGuideProjectZipper.
      *
-     * @param rootDir   the root directory of the source files
-     * @param sourceDir the source directory to be compressed
-     * @param out       the {@link ZipArchiveOutputStream} to write the compressed data
-     * @throws IOException if an I/O error occurs during compression
+     * @param guidesConfiguration the guides configuration
      */
-    private static void compressDirectoryToZipfile(String rootDir, String sourceDir, ZipArchiveOutputStream out) throws IOException {
-        for (File file : new File(sourceDir).listFiles()) {
-            if (EXCLUDED_FILES.contains(file.getName())) {
-                continue;
+    public DefaultGuideProjectZipper(GuidesConfiguration guidesConfiguration) {
+        this.guidesConfiguration = guidesConfiguration;
+    }
+
+    @Override
+    public void zipDirectory(String sourceDir, String outputFile) throws IOException {
+        zip(ProjectOverlay.of(Paths.get(sourceDir), path -> EXCLUDED_FILES.contains(path.getFileName().toString())), outputFile);
+    }
+
+    @Override
+    public void zip(ProjectOverlay project, String outputFile) throws IOException {
+        boolean reproducible = guidesConfiguration.isReproducibleZips();
+        int compressionLevel = guidesConfiguration.getZipCompressionLevel();
+        Path output = Paths.get(outputFile);
+        List<String> paths = project.getPaths().stream().filter(path -> !isExcluded(path)).toList();
+        ZipArchiveEntry[] entries = new ZipArchiveEntry[paths.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = entry(paths.get(i), project.isExecutable(paths.get(i)), reproducible);
+        }
+        if (reproducible) {
+            Arrays.sort(entries, Comparator.comparing(ZipArchiveEntry::getName));
+            String existingComment = existingComment(output);
+            if (existingComment != null && existingComment.equals(comment(project, entries, compressionLevel, outputFile))) {
+                LOG.debug("Reusing {}, its contents did not change", outputFile);
+                return;
             }
-            if (file.isDirectory()) {
-                compressDirectoryToZipfile(rootDir, sourceDir + File.separatorChar + file.getName(), out);
-            } else {
-                String zipPath = sourceDir.replace(rootDir, "") + '/' + file.getName();
-                if (zipPath.charAt(0) == '/') {
-                    zipPath = zipPath.substring(1);
+        }
+
+        MessageDigest digest = reproducible ? ContentHashUtils.startHash(String.valueOf(compressionLevel)) : null;
+        int window = windowSize();
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(output)) {
+            for (int start = 0; start < entries.length; start += window) {
+                int offset = start;
+                int end = Math.min(entries.length, start + window);
+                byte[][] contents = new byte[end - start][];
+                byte[][] deflated = new byte[end - start][];
+                List<Callable<Void>> tasks = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    int index = i;
+                    tasks.add(() -> {
+                        byte[] content = project.read(entries[index].getName());
+                        deflated[index - offset] = deflate(content, compressionLevel, entries[index]);
+                        if (digest != null) {
+                            contents[index - offset] = content;
+                        }
+                        return null;
+                    });
                 }
-                ZipArchiveEntry entry = new ZipArchiveEntry(zipPath);
-                if (EXECUTABLES.contains(file.getName())) {
-                    entry.setUnixMode(UnixStat.FILE_FLAG | 0755);
+                ParallelUtils.invokeAll("Failed to zip " + outputFile, guidesConfiguration.getParallelism(), tasks);
+                for (int i = start; i < end; i++) {
+                    if (digest != null) {
+                        updateHash(digest, entries[i], contents[i - start]);
+                    }
+                    out.addRawArchiveEntry(entries[i], new ByteArrayInputStream(deflated[i - start]));
                 }
-                out.putArchiveEntry(entry);
-                Path p = Paths.get(sourceDir, file.getName());
-                FileInputStream in = new FileInputStream(p.toFile());
-                IOUtils.copy(in, out);
-                IOUtils.closeQuietly(in);
-                out.closeArchiveEntry();
+            }
+            if (digest != null) {
+                out.setComment(HASH_COMMENT_PREFIX + ContentHashUtils.finishHash(digest));
             }
         }
     }
 
-    @Override
-    public void zipDirectory(String sourceDir, String outputFile) throws IOException {
-        ZipArchiveOutputStream zipOutputStream = new ZipArchiveOutputStream(new FileOutputStream(outputFile));
-        compressDirectoryToZipfile(sourceDir, sourceDir, zipOutputStream);
-        IOUtils.closeQuietly(zipOutputStream);
+    /**
+     * Computes the comment of a reproducible archive by reading the entries window by window, without deflating them.
+     *
+     * @param project          the project to zip
+     * @param entries          the entries, sorted by name
+     * @param compressionLevel the compression level
+     * @param outputFile       the archive, used in error messages
+     * @return the comment of the archive
+     * @throws IOException if an I/O error occurs reading the files
+     */
+    private String comment(ProjectOverlay project, ZipArchiveEntry[] entries, int compressionLevel, String outputFile) throws IOException {
+        MessageDigest digest = ContentHashUtils.startHash(String.valueOf(compressionLevel));
+        int window = windowSize();
+        for (int start = 0; start < entries.length; start += window) {
+            int offset = start;
+            int end = Math.min(entries.length, start + window);
+            byte[][] contents = new byte[end - start][];
+            List<Callable<Void>> tasks = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                int index = i;
+                tasks.add(() -> {
+                    contents[index - offset] = project.read(entries[index].getName());
+                    return null;
+                });
+            }
+            ParallelUtils.invokeAll("Failed to read the files of " + outputFile, guidesConfiguration.getParallelism(), tasks);
+            for (int i = start; i < end; i++) {
+                updateHash(digest, entries[i], contents[i - start]);
+            }
+        }
+        return HASH_COMMENT_PREFIX + ContentHashUtils.finishHash(digest);
+    }
+
+    /**
+     * Adds an entry to the hash of a reproducible archive. The unix mode is part of the hashed name, so that an archive is rewritten when only the executable flag of a file changes.
+     */
+    private static void updateHash(MessageDigest digest, ZipArchiveEntry entry, byte[] content) {
+        ContentHashUtils.updateHash(digest, entry.getName() + ":" + Integer.toOctalString(entry.getUnixMode()), content);
+    }
+
+    /**
+     * @return the number of entries read and deflated before being written, which bounds the memory used by an archive
+     */
+    private int windowSize() {
+        return Math.max(1, guidesConfiguration.getParallelism()) * ENTRIES_PER_WORKER;
+    }
+
+    private static boolean isExcluded(String path) {
+        for (String name : path.split("/")) {
+            if (EXCLUDED_FILES.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static String existingComment(Path zip) {
+        if (!Files.isRegularFile(zip)) {
+            return null;
+        }
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            return zipFile.getComment();
+        } catch (IOException e) {
+            LOG.debug("Could not read the comment of {}", zip, e);
+            return null;
+        }
+    }
+
+    private static ZipArchiveEntry entry(String path, boolean executable, boolean reproducible) {
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        ZipArchiveEntry entry = new ZipArchiveEntry(path);
+        if (executable || EXECUTABLES.contains(fileName)) {
+            entry.setUnixMode(EXECUTABLE_MODE);
+        } else if (reproducible) {
+            entry.setUnixMode(FILE_MODE);
+        }
+        if (reproducible) {
+            entry.setTime(CONSTANT_TIME);
+        }
+        return entry;
+    }
+
+    /**
+     * Deflates the content of an entry and sets its method, sizes and CRC so it can be written as a raw entry.
+     */
+    private static byte[] deflate(byte[] content, int compressionLevel, ZipArchiveEntry entry) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        Deflater deflater = new Deflater(compressionLevel, true);
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            entry.setMethod(ZipArchiveOutputStream.DEFLATED);
+            entry.setSize(content.length);
+            entry.setCompressedSize(deflater.getBytesWritten());
+            entry.setCrc(crc.getValue());
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
     }
 }
@@ -16,16 +16,39 @@
 package io.micronaut.guides.core;
 
 import com.networknt.schema.*;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonNull;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * DefaultJsonSchemaProvider is a singleton class that implements the JsonSchemaProvider interface.
  * It provides methods to retrieve JSON schemas.
+ * The schema is generated from {@link Guide} at build time and loaded from the classpath, or from {@link GuidesConfiguration#getJsonSchemaUrl()} if it is not on the classpath.
+ * It is loaded and its validators are initialized once.
  */
 @Singleton
 public class DefaultJsonSchemaProvider implements JsonSchemaProvider {
-    JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+    /**
+     * Classpath location of the JSON Schema generated from {@link Guide}.
+     */
+    public static final String CLASSPATH_SCHEMA = "META-INF/schemas/guide-metadata.schema.json";
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultJsonSchemaProvider.class);
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+    private final GuidesConfiguration guidesConfiguration;
+    private volatile JsonSchema schema;
+
+    /**
+     * Constructs a new DefaultJsonSchemaProvider.
+     *
+     * @param guidesConfiguration the guides configuration
+     */
+    public DefaultJsonSchemaProvider(GuidesConfiguration guidesConfiguration) {
+        this.guidesConfiguration = guidesConfiguration;
+    }
 
     /**
      * Returns the JSON schema for the guide metadata.
@@ -35,8 +58,33 @@ public class DefaultJsonSchemaProvider implements JsonSchemaProvider {
     @Override
     @NonNull
     public JsonSchema getSchema() {
+        JsonSchema result = schema;
+        if (result == null) {
+            synchronized (this) {
+                result = schema;
+                if (result == null) {
+                    result = loadSchema();
+                    schema = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private JsonSchema loadSchema() {
+        SchemaLocation location;
+        if (DefaultJsonSchemaProvider.class.getClassLoader().getResource(CLASSPATH_SCHEMA) != null) {
+            location = SchemaLocation.of(CLASSPATH_PREFIX + CLASSPATH_SCHEMA);
+        } else if (guidesConfiguration.getJsonSchemaUrl() != null) {
+            LOG.info("JSON Schema {} not found on the classpath, loading {}", CLASSPATH_SCHEMA, guidesConfiguration.getJsonSchemaUrl());
+            location = SchemaLocation.of(guidesConfiguration.getJsonSchemaUrl());
+        } else {
+            throw new ConfigurationException("JSON Schema " + CLASSPATH_SCHEMA + " not found on the classpath and guides.json-schema-url is not set");
+        }
         SchemaValidatorsConfig.Builder builder = SchemaValidatorsConfig.builder();
         SchemaValidatorsConfig validatorsConfig = builder.build();
-        return jsonSchemaFactory.getSchema(SchemaLocation.of("https://micronaut-projects.github.io/micronaut-guides-sdk/guide-metadata.schema.json"), validatorsConfig);
+        JsonSchema jsonSchema = jsonSchemaFactory.getSchema(location, validatorsConfig);
+        jsonSchema.initializeValidators();
+        return jsonSchema;
     }
 }
@@ -25,9 +25,12 @@ import io.micronaut.guides.core.html.CategoriesIndexGenerator;
 import io.micronaut.guides.core.html.GuideMatrixGenerator;
 import io.micronaut.guides.core.html.GuidePageGenerator;
 import io.micronaut.guides.core.html.IndexGenerator;
+import io.micronaut.json.JsonMapper;
 import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.build.dependencies.Coordinate;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Language;
+import io.micronaut.starter.util.VersionInfo;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -38,13 +41,20 @@ import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of the {@link WebsiteGenerator} interface.
  * This class is responsible for generating a website from the specified input directory to the specified output directory.
+ * With {@link GuidesConfiguration#isInMemoryProjects()}, the project of every option is assembled in memory and zipped directly, and only written to disk if the guide includes its files.
  */
 @Internal
 @Singleton
@@ -54,6 +64,10 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
     private static final String FILENAME_NATIVE_TEST_SH = "native-test.sh";
     private static final String FILENAME_INDEX_HTML = "index.html";
     private static final String FILENAME_CATEGORIES_INDEX_HTML = "categories-index.html";
+    private static final String FILENAME_MANIFEST = ".guides-manifest.json";
+    private static final String EXTENSION_ZIP = ".zip";
+    private static final String ATTRIBUTE_SOURCEDIR = "sourcedir";
+    private static final String ATTRIBUTE_GUIDESOURCEDIR = "guidesourcedir";
     private final GuideRenderAttributesProvider guideRenderAttributesProvider;
     private final GuideParser guideParser;
     private final GuideProjectGenerator guideProjectGenerator;
@@ -72,6 +86,9 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
     private final GuidePageGenerator guidePageGenerator;
     private final CategoriesIndexGenerator categoriesIndexGenerator;
     private final AsciidocConfiguration asciidocConfiguration;
+    private final JsonMapper jsonMapper;
+    private final CoordinatesProvider coordinatesProvider;
+    private final LicenseLoader licenseLoader;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     public DefaultWebsiteGenerator(GuideRenderAttributesProvider guideRenderAttributesProvider, GuideParser guideParser,
@@ -90,7 +107,10 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
                             GuidePageGenerator guidePageGenerator,
                             AsciidocConfiguration asciidocConfiguration,
                             GuidesConfiguration guidesConfiguration,
-                            CategoriesIndexGenerator categoriesIndexGenerator) {
+                            CategoriesIndexGenerator categoriesIndexGenerator,
+                            JsonMapper jsonMapper,
+                            CoordinatesProvider coordinatesProvider,
+                            LicenseLoader licenseLoader) {
         this.guideRenderAttributesProvider = guideRenderAttributesProvider;
         this.guideParser = guideParser;
         this.guideProjectGenerator = guideProjectGenerator;
@@ -109,6 +129,9 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
         this.guidePageGenerator = guidePageGenerator;
         this.categoriesIndexGenerator = categoriesIndexGenerator;
         this.asciidocConfiguration = asciidocConfiguration;
+        this.jsonMapper = jsonMapper;
+        this.coordinatesProvider = coordinatesProvider;
+        this.licenseLoader = licenseLoader;
     }
 
     @Override
@@ -121,57 +144,38 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
             throw new ConfigurationException("Guides path " + guidesInputDirectory.getAbsolutePath() + " is not a directory");
         }
         List<? extends Guide> guides = guideParser.parseGuidesMetadata(guidesInputDirectory);
-        for (Guide guide : guides) {
-            if (guide.isPublish()) {
-                File guideInputDirectory = guide.getFolder();
-                File asciidocFile = new File(guideInputDirectory, guide.getAsciidoctor());
-                if (!asciidocFile.exists()) {
-                    throw new ConfigurationException("asciidoc file not found for " + guide.getSlug());
-                }
-
-                String asciidoc = readFile(asciidocFile);
-
-                if (guide.getApps().isEmpty()) {
-                    renderHtml(asciidoc, new GuideRender(guide, new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT)), inputDirectory, outputDirectory, guide.getSlug(), guideInputDirectory);
-                } else {
-                    File guideOutput = new File(outputDirectory, guide.getSlug());
-                    guideOutput.mkdir();
-                    guideProjectGenerator.generate(guideOutput, guide);
-                    filesTransferUtility.transferFiles(guideInputDirectory, guideOutput, guide, guides);
-
-                    // Test script generation
-                    String testScript = testScriptGenerator.generateTestScript(outputDirectory, new ArrayList<>(List.of(guide)));
-                    saveToFile(testScript, guideOutput, FILENAME_TEST_SH, true);
-
-                    // Native Test script generation
-                    String nativeTestScript = testScriptGenerator.generateNativeTestScript(outputDirectory, new ArrayList<>(List.of(guide)));
-                    saveToFile(nativeTestScript, guideOutput, FILENAME_NATIVE_TEST_SH, true);
-
-                    List<GuidesOption> guideOptions = GuideGenerationUtils.guidesOptions(guide, LOG);
-                    for (GuidesOption guidesOption : guideOptions) {
-                        String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
-                        zipGuide(outputDirectory, guideOutput, name);
-                        renderHtml(asciidoc, new GuideRender(guide, guidesOption), inputDirectory, outputDirectory, name, guideOutput);
-                    }
-
-                    String guideMatrixHtml = guideMatrixGenerator.renderIndex(guide);
-                    saveToFile(guideMatrixHtml, outputDirectory, guide.getSlug() + ".html");
-                }
+        List<? extends Guide> publishedGuides = guides.stream().filter(Guide::isPublish).toList();
+        List<? extends Guide> guidesToGenerate = publishedGuides;
+        Map<String, WebsiteManifest.Entry> manifestEntries = new TreeMap<>();
+        if (guidesConfiguration.isIncremental()) {
+            guidesToGenerate = changedGuides(publishedGuides, guides, inputDirectory, outputDirectory, manifestEntries);
+        }
+        int parallelism = guidesConfiguration.getParallelism();
+        if (parallelism > 1) {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (Guide guide : guidesToGenerate) {
+                tasks.add(() -> {
+                    generateGuide(guide, guides, inputDirectory, outputDirectory);
+                    return null;
+                });
+            }
+            ParallelUtils.invokeAll("Failed to generate guides", parallelism, tasks);
+        } else {
+            for (Guide guide : guidesToGenerate) {
+                generateGuide(guide, guides, inputDirectory, outputDirectory);
             }
         }
 
-        guides = guides.stream().filter(Guide::isPublish).toList();
-
-        String indexHtml = indexGenerator.renderIndex(guides);
+        String indexHtml = indexGenerator.renderIndex(publishedGuides);
         saveToFile(indexHtml, outputDirectory, FILENAME_INDEX_HTML);
 
-        String moduleIndexHtml = categoriesIndexGenerator.renderIndex(guides);
+        String moduleIndexHtml = categoriesIndexGenerator.renderIndex(publishedGuides);
         saveToFile(moduleIndexHtml, outputDirectory, FILENAME_CATEGORIES_INDEX_HTML);
 
-        String rss = rssFeedGenerator.rssFeed(guides);
+        String rss = rssFeedGenerator.rssFeed(publishedGuides);
         saveToFile(rss, outputDirectory, rssFeedConfiguration.getFilename());
 
-        String json = jsonFeedGenerator.jsonFeedString(guides);
+        String json = jsonFeedGenerator.jsonFeedString(publishedGuides);
         saveToFile(json, outputDirectory, jsonFeedConfiguration.getFilename());
 
         File imagesFolder = new File(inputDirectory, asciidocConfiguration.getImagesdir());
@@ -183,6 +187,246 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
 
             copyFolder(imagesFolder.toPath(), outputImagesFolder.toPath());
         }
+
+        if (guidesConfiguration.isIncremental()) {
+            Files.write(new File(outputDirectory, FILENAME_MANIFEST).toPath(), jsonMapper.writeValueAsBytes(new WebsiteManifest(manifestEntries)));
+        }
+    }
+
+    /**
+     * Compares the hash of the inputs of every guide with the manifest of the previous generation.
+     * The inputs of a guide include the shared asciidoc includes and templates and the {@link #configurationFingerprint() configuration} affecting the outputs, so changing them regenerates every guide.
+     * The outputs of the guides which changed or no longer exist are deleted.
+     * With reproducible zips, the zips of the guides which changed are kept, so the zips whose contents did not change are reused.
+     *
+     * @param publishedGuides the guides to publish
+     * @param guides          all the guides being rendered
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the generated website is written
+     * @param manifestEntries the map where the manifest entries of the published guides are added
+     * @return the guides which need to be generated
+     * @throws IOException if an I/O error occurs hashing the inputs or deleting the stale outputs
+     */
+    private List<Guide> changedGuides(List<? extends Guide> publishedGuides,
+                                      List<? extends Guide> guides,
+                                      File inputDirectory,
+                                      File outputDirectory,
+                                      Map<String, WebsiteManifest.Entry> manifestEntries) throws IOException {
+        WebsiteManifest previousManifest = readManifest(outputDirectory);
+        String includesHash = ContentHashUtils.hash(List.of(
+                resolve(inputDirectory, asciidocConfiguration.getCommonsDir()),
+                resolve(inputDirectory, asciidocConfiguration.getCalloutsDir()),
+                asciidocConfiguration.getTemplateDirs()),
+                configurationFingerprint());
+        List<Guide> result = new ArrayList<>();
+        Set<String> unchanged = new HashSet<>();
+        Set<String> reusableZips = new HashSet<>();
+        for (Guide guide : publishedGuides) {
+            WebsiteManifest.Entry entry = new WebsiteManifest.Entry(inputsHash(guide, guides, includesHash), outputs(guide));
+            manifestEntries.put(guide.getSlug(), entry);
+            if (entry.equals(previousManifest.guides().get(guide.getSlug()))
+                    && entry.outputs().stream().allMatch(output -> new File(outputDirectory, output).exists())) {
+                LOG.debug("Skipping guide {}, its inputs did not change", guide.getSlug());
+                unchanged.add(guide.getSlug());
+            } else {
+                result.add(guide);
+                if (guidesConfiguration.isReproducibleZips()) {
+                    entry.outputs().stream().filter(output -> output.endsWith(EXTENSION_ZIP)).forEach(reusableZips::add);
+                }
+            }
+        }
+        for (Map.Entry<String, WebsiteManifest.Entry> previousEntry : previousManifest.guides().entrySet()) {
+            if (!unchanged.contains(previousEntry.getKey())) {
+                for (String output : previousEntry.getValue().outputs()) {
+                    if (!reusableZips.contains(output)) {
+                        delete(new File(outputDirectory, output).toPath());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Lists the values, other than the guide sources, which affect the generated projects, zips and HTML pages.
+     *
+     * @return the values of the SDK and Starter versions, the dependency coordinates, the license header and the guides and asciidoc configuration
+     */
+    private String[] configurationFingerprint() {
+        List<String> values = new ArrayList<>();
+        String sdkVersion = DefaultWebsiteGenerator.class.getPackage().getImplementationVersion();
+        values.add("sdk=" + (sdkVersion == null ? "unknown" : sdkVersion));
+        values.add("micronaut=" + VersionInfo.getMicronautVersion());
+        new TreeMap<>(coordinatesProvider.getCoordinates()).forEach((name, coordinate) -> values.add(coordinate(name, coordinate)));
+        values.add("license=" + licenseLoader.getLicenseHeaderText());
+
+        values.add("version=" + guidesConfiguration.getVersion());
+        values.add("title=" + guidesConfiguration.getTitle());
+        values.add("homePageUrl=" + guidesConfiguration.getHomePageUrl());
+        values.add("packageName=" + guidesConfiguration.getPackageName());
+        values.add("defaultAppName=" + guidesConfiguration.getDefaultAppName());
+        values.add("projectGeneratorUrl=" + guidesConfiguration.getProjectGeneratorUrl());
+        values.add("apiUrl=" + guidesConfiguration.getApiUrl());
+        values.add("defaultMinJdk=" + guidesConfiguration.getDefaultMinJdk());
+        values.add("defaultJdkVersion=" + guidesConfiguration.getDefaultJdkVersion());
+        values.add("jdkVersionsSupportedByGraalvm=" + guidesConfiguration.getJdkVersionsSupportedByGraalvm());
+        values.add("defaultLanguages=" + guidesConfiguration.getDefaultLanguages());
+        values.add("filesWithHeader=" + guidesConfiguration.getFilesWithHeader());
+        values.add("zipIncludesExtensions=" + guidesConfiguration.getZipIncludesExtensions());
+        values.add("zipCompressionLevel=" + guidesConfiguration.getZipCompressionLevel());
+        values.add("reproducibleZips=" + guidesConfiguration.isReproducibleZips());
+        values.add("githubWorkflowJavaCi=" + guidesConfiguration.getGithubWorkflowJavaCi());
+        values.add("envGithubWorkflow=" + guidesConfiguration.getEnvGithubWorkflow());
+        values.add("envJdkVersion=" + guidesConfiguration.getEnvJdkVersion());
+        values.add("sysPropMicronautGuide=" + guidesConfiguration.getSysPropMicronautGuide());
+
+        values.add("headerFooter=" + asciidocConfiguration.isHeaderFooter());
+        values.add("sourceHighlighter=" + asciidocConfiguration.getSourceHighlighter());
+        values.add("toc=" + asciidocConfiguration.getToc());
+        values.add("toclevels=" + asciidocConfiguration.getToclevels());
+        values.add("sectnums=" + asciidocConfiguration.getSectnums());
+        values.add("idprefix=" + asciidocConfiguration.getIdprefix());
+        values.add("idseparator=" + asciidocConfiguration.getIdseparator());
+        values.add("icons=" + asciidocConfiguration.getIcons());
+        values.add("imagesdir=" + asciidocConfiguration.getImagesdir());
+        values.add("nofooter=" + asciidocConfiguration.isNofooter());
+        values.add("docType=" + asciidocConfiguration.getDocType());
+        values.add("ruby=" + asciidocConfiguration.getRuby());
+        values.add("baseDir=" + asciidocConfiguration.getBaseDir());
+        return values.toArray(new String[0]);
+    }
+
+    private static String coordinate(String name, Coordinate coordinate) {
+        return "coordinate=" + name + "=" + coordinate.getGroupId() + ":" + coordinate.getArtifactId() + ":" + coordinate.getVersion();
+    }
+
+    private WebsiteManifest readManifest(File outputDirectory) {
+        File manifestFile = new File(outputDirectory, FILENAME_MANIFEST);
+        if (!manifestFile.exists()) {
+            return WebsiteManifest.EMPTY;
+        }
+        try {
+            return jsonMapper.readValue(Files.readAllBytes(manifestFile.toPath()), WebsiteManifest.class);
+        } catch (IOException e) {
+            LOG.warn("Could not read the build manifest {}. Generating every guide.", manifestFile, e);
+            return WebsiteManifest.EMPTY;
+        }
+    }
+
+    private static String inputsHash(Guide guide, List<? extends Guide> guides, String includesHash) throws IOException {
+        List<File> roots = new ArrayList<>();
+        roots.add(guide.getFolder());
+        if (guide.getBase() != null) {
+            guides.stream()
+                    .filter(g -> g.getSlug().equals(guide.getBase()))
+                    .findFirst()
+                    .map(Guide::getFolder)
+                    .ifPresent(roots::add);
+        }
+        return ContentHashUtils.hash(roots, includesHash);
+    }
+
+    private static List<String> outputs(Guide guide) {
+        List<String> outputs = new ArrayList<>();
+        outputs.add(guide.getSlug() + ".html");
+        if (!guide.getApps().isEmpty()) {
+            outputs.add(guide.getSlug());
+            for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+                String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+                outputs.add(name + EXTENSION_ZIP);
+                outputs.add(name + ".html");
+            }
+        }
+        return outputs;
+    }
+
+    private static File resolve(File inputDirectory, String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(inputDirectory, path);
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.walk(path)) {
+                for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(p);
+                }
+            }
+        } else {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Generates the projects, zips and HTML pages of a single guide.
+     *
+     * @param guide           the guide to generate
+     * @param guides          all the guides being rendered
+     * @param inputDirectory  the directory containing the source files for the website
+     * @param outputDirectory the directory where the generated website is written
+     * @throws IOException if an I/O error occurs during generation
+     */
+    protected void generateGuide(Guide guide, List<? extends Guide> guides, File inputDirectory, File outputDirectory) throws IOException {
+        File guideInputDirectory = guide.getFolder();
+        File asciidocFile = new File(guideInputDirectory, guide.getAsciidoctor());
+        if (!asciidocFile.exists()) {
+            throw new ConfigurationException("asciidoc file not found for " + guide.getSlug());
+        }
+
+        String asciidoc = readFile(asciidocFile);
+
+        if (guide.getApps().isEmpty()) {
+            renderHtml(asciidoc, new GuideRender(guide, new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT)), inputDirectory, outputDirectory, guide.getSlug(), guideInputDirectory);
+        } else {
+            File guideOutput = new File(outputDirectory, guide.getSlug());
+            guideOutput.mkdir();
+            boolean inMemoryProjects = guidesConfiguration.isInMemoryProjects();
+            if (!inMemoryProjects) {
+                guideProjectGenerator.generate(guideOutput, guide);
+                filesTransferUtility.transferFiles(guideInputDirectory, guideOutput, guide, guides);
+            }
+
+            // Test script generation
+            String testScript = testScriptGenerator.generateTestScript(outputDirectory, new ArrayList<>(List.of(guide)));
+            saveToFile(testScript, guideOutput, FILENAME_TEST_SH, true);
+
+            // Native Test script generation
+            String nativeTestScript = testScriptGenerator.generateNativeTestScript(outputDirectory, new ArrayList<>(List.of(guide)));
+            saveToFile(nativeTestScript, guideOutput, FILENAME_NATIVE_TEST_SH, true);
+
+            // the guide files are indexed once for the projects of every option
+            FilesTransferUtility.ProjectFiles projectFiles = inMemoryProjects ? filesTransferUtility.projectFiles(guideInputDirectory, guide, guides) : null;
+
+            // Each option is zipped and rendered independently, failures are reported together
+            List<Callable<Void>> optionTasks = new ArrayList<>();
+            for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LOG)) {
+                String name = MacroUtils.getSourceDir(guide.getSlug(), guidesOption);
+                optionTasks.add(() -> {
+                    try {
+                        GuideRender guideRender = new GuideRender(guide, guidesOption);
+                        if (inMemoryProjects) {
+                            String optionAsciidoc = macroSubstitution.substitute(asciidoc, guideRender);
+                            ProjectOverlay project = guideProjectGenerator.generateProject(guide, guidesOption);
+                            projectFiles.transferFiles(project, guidesOption);
+                            // the folder is tested by the test scripts and read by the source macros
+                            project.writeTo(new File(guideOutput, name).toPath());
+                            guideProjectZipper.zip(project, new File(outputDirectory, name + EXTENSION_ZIP).getAbsolutePath());
+                            renderSubstitutedHtml(optionAsciidoc, guideRender, inputDirectory, outputDirectory, name, guideOutput);
+                        } else {
+                            zipGuide(outputDirectory, guideOutput, name);
+                            renderHtml(asciidoc, guideRender, inputDirectory, outputDirectory, name, guideOutput);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        throw new IOException("Failed to generate " + name, e);
+                    }
+                    return null;
+                });
+            }
+            ParallelUtils.invokeAll("Failed to generate the options of guide " + guide.getSlug(), guidesConfiguration.getParallelism(), optionTasks);
+
+            String guideMatrixHtml = guideMatrixGenerator.renderIndex(guide);
+            saveToFile(guideMatrixHtml, outputDirectory, guide.getSlug() + ".html");
+        }
     }
 
     /**
@@ -193,7 +437,7 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
      * @throws IOException if an I/O error occurs during zipping
      */
     protected void zipGuide(File outputDirectory, File guideOutput, String name) throws IOException {
-        File zipFile = new File(outputDirectory, name + ".zip");
+        File zipFile = new File(outputDirectory, name + EXTENSION_ZIP);
         File folderFile = new File(guideOutput, name);
         guideProjectZipper.zipDirectory(folderFile.getAbsolutePath(), zipFile.getAbsolutePath());
     }
@@ -219,12 +463,14 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
 
     private void renderHtml(String asciidoc, GuideRender guideRender, File inputDirectory, File outputDirectory, String name, File guideOutput) throws IOException {
         // Macro substitution
-        String optionAsciidoc = macroSubstitution.substitute(asciidoc, guideRender);
+        renderSubstitutedHtml(macroSubstitution.substitute(asciidoc, guideRender), guideRender, inputDirectory, outputDirectory, name, guideOutput);
+    }
 
+    private void renderSubstitutedHtml(String optionAsciidoc, GuideRender guideRender, File inputDirectory, File outputDirectory, String name, File guideOutput) throws IOException {
         // HTML rendering
         Map<String, Object> attributes = new HashMap<>();
-        attributes.put("sourcedir", outputDirectory.getAbsolutePath());
-        attributes.put("guidesourcedir", new File(guideOutput, name).getAbsolutePath());
+        attributes.put(ATTRIBUTE_SOURCEDIR, outputDirectory.getAbsolutePath());
+        attributes.put(ATTRIBUTE_GUIDESOURCEDIR, new File(guideOutput, name).getAbsolutePath());
         attributes.putAll(guideRenderAttributesProvider.attributes(guideRender));
         String guideOptionHtmlFileName = name + ".html";
         String optionHtml = asciidocConverter.convert(optionAsciidoc, inputDirectory, () -> attributes);
@@ -256,7 +502,14 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
         saveToFile(optionHtml, outputDirectory, guideOptionHtmlFileName);
     }
 
-    private List<String> extractToc(String html) {
+    /**
+     * Extracts the table of contents divs of a rendered guide page.
+     *
+     * @param html the rendered page
+     * @return the floating table of contents div, if any, followed by the table of contents div, if any
+     */
+    @Internal
+    public static List<String> extractToc(String html) {
         List<String> tocDivs = new ArrayList<>();
         String openDivPattern = "<div";
         String closeDivPattern = "</div>";
@@ -336,6 +589,8 @@ public class DefaultWebsiteGenerator implements WebsiteGenerator {
 
     private void saveToFile(String content, File outputDirectory, String filename, boolean executable) throws IOException {
         Path filePath = Paths.get(outputDirectory.getAbsolutePath(), filename);
+        // replace the file rather than truncating it, it may be a hard link to a guide source
+        Files.deleteIfExists(filePath);
         Files.write(filePath, content.getBytes());
         if (executable) {
             filePath.toFile().setExecutable(true);
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * FileCopyStrategy is an enumeration of the ways guide source files are copied to the generated projects.
+ * Only {@link #HARD_LINK} saves disk space, the JDK has no portable way to clone a file on copy-on-write file systems.
+ * Files modified in place after the copy, such as the sources which get a license header, must always use {@link #COPY}.
+ * Since {@link #HARD_LINK} leaves links to the guide sources in the project folders, any later write to those folders must replace the target file, by deleting it or moving a new file over it, instead of truncating it.
+ */
+public enum FileCopyStrategy {
+
+    /**
+     * Copies the content of the file.
+     */
+    COPY {
+        @Override
+        public void copy(Path source, Path target) throws IOException {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    },
+
+    /**
+     * Creates a hard link to the source file, or copies it if the source and the target are not on the same file system.
+     */
+    HARD_LINK {
+        @Override
+        public void copy(Path source, Path target) throws IOException {
+            Files.deleteIfExists(target);
+            try {
+                Files.createLink(target, source);
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                LOG.trace("Could not link {} to {}, copying it", target, source, e);
+                COPY.copy(source, target);
+            }
+        }
+    };
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileCopyStrategy.class);
+
+    /**
+     * Copies a file, replacing the target if it exists.
+     *
+     * @param source the file to copy
+     * @param target the target file
+     * @throws IOException if an I/O error occurs during file copy
+     */
+    public abstract void copy(Path source, Path target) throws IOException;
+}
@@ -40,4 +40,53 @@ public interface FilesTransferUtility {
                        @NotNull @NonNull File outputDirectory,
                        @NotNull @NonNull Guide guide,
                        @NotNull @NonNull List<? extends Guide> guides) throws IOException;
+
+    /**
+     * Adds the files of a guide option to a project assembled in memory, as {@link #transferFiles(File, File, Guide, List)} transfers them to the folder of the option.
+     * The guide files are indexed on every call, use {@link #projectFiles(File, Guide, List)} to index them once for every option.
+     *
+     * @param inputDirectory the directory containing the files to be transferred
+     * @param project        the project of the option
+     * @param guide          the guide containing the transfer instructions
+     * @param guides         Guides being rendered
+     * @param guidesOption   the guide option
+     * @throws IOException if an I/O error occurs reading the guide files
+     */
+    default void transferFiles(@NotNull @NonNull File inputDirectory,
+                               @NotNull @NonNull ProjectOverlay project,
+                               @NotNull @NonNull Guide guide,
+                               @NotNull @NonNull List<? extends Guide> guides,
+                               @NotNull @NonNull GuidesOption guidesOption) throws IOException {
+        projectFiles(inputDirectory, guide, guides).transferFiles(project, guidesOption);
+    }
+
+    /**
+     * Indexes the files of a guide, and of its base guide, once to add them to the projects of its options assembled in memory.
+     *
+     * @param inputDirectory the directory containing the files to be transferred
+     * @param guide          the guide containing the transfer instructions
+     * @param guides         Guides being rendered
+     * @return the files of the guide, which can be added to the projects of several options concurrently
+     * @throws IOException if an I/O error occurs indexing the guide files
+     */
+    @NonNull
+    ProjectFiles projectFiles(@NotNull @NonNull File inputDirectory,
+                              @NotNull @NonNull Guide guide,
+                              @NotNull @NonNull List<? extends Guide> guides) throws IOException;
+
+    /**
+     * The indexed files of a guide.
+     */
+    @FunctionalInterface
+    interface ProjectFiles {
+
+        /**
+         * Adds the files of a guide option to a project assembled in memory, as {@link FilesTransferUtility#transferFiles(File, File, Guide, List)} transfers them to the folder of the option.
+         *
+         * @param project      the project of the option
+         * @param guidesOption the guide option
+         * @throws IOException if an I/O error occurs reading the guide files
+         */
+        void transferFiles(@NonNull ProjectOverlay project, @NonNull GuidesOption guidesOption) throws IOException;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the files of a guide directory.
+ * The directory is walked once and the index is reused to copy the files of every option and app of the guide.
+ * Paths are relative and use '/' as separator.
+ */
+final class GuideFileIndex {
+    private static final char SEPARATOR = '/';
+
+    private final Path root;
+    private final List<String> files;
+    private final Map<String, List<String>> filesByDirectory = new ConcurrentHashMap<>();
+    private final Map<List<String>, List<String>> filesByExtensions = new ConcurrentHashMap<>();
+
+    private GuideFileIndex(Path root, List<String> files) {
+        this.root = root;
+        this.files = files;
+    }
+
+    /**
+     * Indexes the regular files of a directory.
+     *
+     * @param dir the directory
+     * @return the index, empty if the directory does not exist
+     * @throws IOException if an I/O error occurs walking the directory
+     */
+    @NonNull
+    static GuideFileIndex of(@NonNull File dir) throws IOException {
+        Path root = dir.getAbsoluteFile().toPath();
+        if (!Files.isDirectory(root)) {
+            return new GuideFileIndex(root, Collections.emptyList());
+        }
+        String separator = root.getFileSystem().getSeparator();
+        List<String> files = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    files.add(root.relativize(file).toString().replace(separator, String.valueOf(SEPARATOR)));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(files);
+        return new GuideFileIndex(root, Collections.unmodifiableList(files));
+    }
+
+    /**
+     * @param path a path relative to the indexed directory
+     * @return the file on disk
+     */
+    @NonNull
+    Path resolve(@NonNull String path) {
+        return root.resolve(path);
+    }
+
+    /**
+     * @param directory a directory relative to the indexed directory
+     * @return the paths, relative to that directory, of the files below it
+     */
+    @NonNull
+    List<String> filesIn(@NonNull String directory) {
+        return filesByDirectory.computeIfAbsent(directory, dir -> {
+            String prefix = dir + SEPARATOR;
+            return files.stream()
+                    .filter(file -> file.startsWith(prefix))
+                    .map(file -> file.substring(prefix.length()))
+                    .toList();
+        });
+    }
+
+    /**
+     * @param extensions file name suffixes
+     * @return the paths of the files whose name ends with any of the extensions
+     */
+    @NonNull
+    List<String> filesWithExtensions(@NonNull List<String> extensions) {
+        return filesByExtensions.computeIfAbsent(List.copyOf(extensions), exts -> files.stream()
+                .filter(file -> exts.stream().anyMatch(file::endsWith))
+                .toList());
+    }
+}
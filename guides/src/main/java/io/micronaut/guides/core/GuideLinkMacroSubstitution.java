@@ -63,6 +63,11 @@ public class GuideLinkMacroSubstitution implements MacroSubstitution {
         return str;
     }
 
+    @Override
+    public boolean isOptionDependent() {
+        return false;
+    }
+
     @Override
     public int getOrder() {
         return 0;
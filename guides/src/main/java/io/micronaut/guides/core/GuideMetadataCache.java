@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Cache of the guide metadata files read by {@link DefaultGuideParser}, persisted between runs.
+ * An entry is reused as long as the last modification time and the size of its metadata file did not change.
+ *
+ * @param version Version of the parser and validation settings which wrote the cache. A cache written with a different version is ignored.
+ * @param entries Cache entries by metadata file path
+ */
+@Internal
+@Serdeable
+public record GuideMetadataCache(@NonNull String version, @NonNull Map<String, Entry> entries) {
+
+    /**
+     * Cache without entries.
+     */
+    public static final GuideMetadataCache EMPTY = new GuideMetadataCache("", Collections.emptyMap());
+
+    /**
+     * Cache entry of a metadata file.
+     *
+     * @param lastModified Last modification time of the metadata file, in milliseconds
+     * @param size         Size of the metadata file in bytes
+     * @param valid        Whether the metadata could be read and validated against the JSON Schema
+     * @param content      Content of the metadata file
+     */
+    @Serdeable
+    public record Entry(long lastModified, long size, boolean valid, @NonNull String content) {
+    }
+}
@@ -34,4 +34,15 @@ public interface GuideProjectGenerator {
      * @throws IOException if an I/O error occurs during project generation
      */
     void generate(@NotNull @NonNull File outputDirectory, @NotNull @NonNull Guide guide) throws IOException;
+
+    /**
+     * Generates the projects of a guide option in memory, laid out as {@link #generate(File, Guide)} writes them in the folder of the option.
+     *
+     * @param guide        the guide containing the project details
+     * @param guidesOption the guides option
+     * @return the generated projects
+     * @throws IOException if an I/O error occurs during project generation
+     */
+    @NonNull
+    ProjectOverlay generateProject(@NotNull @NonNull Guide guide, @NotNull @NonNull GuidesOption guidesOption) throws IOException;
 }
@@ -21,7 +21,7 @@ import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
 
 /**
- * Interface for zipping a directory into a single output file.
+ * Interface for zipping a directory or a {@link ProjectOverlay} into a single output file.
  */
 public interface GuideProjectZipper {
 
@@ -33,4 +33,13 @@ public interface GuideProjectZipper {
      * @throws IOException if an I/O error occurs during zipping
      */
     void zipDirectory(@NonNull @NotNull String sourceDir, @NonNull @NotNull String outputFile) throws IOException;
+
+    /**
+     * Zips the files of the specified project into the specified output file, without writing them to a directory first.
+     *
+     * @param project    the project to be zipped
+     * @param outputFile the path to the output file where the zipped content will be written
+     * @throws IOException if an I/O error occurs during zipping
+     */
+    void zip(@NonNull @NotNull ProjectOverlay project, @NonNull @NotNull String outputFile) throws IOException;
 }
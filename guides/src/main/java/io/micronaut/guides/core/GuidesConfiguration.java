@@ -16,9 +16,11 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.options.JdkVersion;
 import io.micronaut.starter.options.Language;
 
+import java.io.File;
 import java.util.List;
 
 /**
@@ -155,4 +157,97 @@ public interface GuidesConfiguration {
 
     @NonNull
     List<String> getZipIncludesExtensions();
+
+    /**
+     * Returns the number of guides generated concurrently.
+     *
+     * @return the number of guides generated concurrently. A value of 1 generates the guides sequentially.
+     */
+    int getParallelism();
+
+    /**
+     * Returns whether the website is generated incrementally.
+     *
+     * @return Whether guides whose inputs did not change since the previous generation are skipped
+     */
+    boolean isIncremental();
+
+    /**
+     * Returns the file where the dependency coordinates resolved from the Micronaut Starter are cached between runs.
+     *
+     * @return the coordinates cache file, or null to resolve the coordinates on every run
+     */
+    @Nullable
+    File getCoordinatesCache();
+
+    /**
+     * Whether every macro substitution is also run through the legacy pipeline, which applies each macro to the whole document in sequence, and both results are compared.
+     * On a mismatch a warning is logged and the legacy result is used.
+     *
+     * @return Whether the macro substitution results are compared against the legacy pipeline
+     */
+    boolean isMacroCompatibilityCheck();
+
+    /**
+     * Compression level of the guide zips, from 0 (no compression) to 9 (best compression), or -1 for the default level of the deflater.
+     *
+     * @return the compression level of the guide zips
+     */
+    int getZipCompressionLevel();
+
+    /**
+     * Whether the guide zips are reproducible: entries are sorted by name and have a fixed timestamp and normalized permissions.
+     * A reproducible zip records the hash of its contents, and an existing zip with the same hash is reused instead of being written again.
+     *
+     * @return Whether the guide zips are reproducible
+     */
+    boolean isReproducibleZips();
+
+    /**
+     * URL of the JSON Schema used to validate the guide metadata when the schema generated at build time is not on the classpath.
+     *
+     * @return the URL of the JSON Schema, or null to only use the schema on the classpath
+     */
+    @Nullable
+    String getJsonSchemaUrl();
+
+    /**
+     * File where the metadata of the guides is cached between runs.
+     * Metadata files whose last modification time and size did not change are then neither read nor validated again.
+     *
+     * @return the metadata cache file, or null to parse every metadata file on every run
+     */
+    @Nullable
+    File getMetadataCache();
+
+    /**
+     * Strategy used to copy the guide source files to the generated projects. Sources which get a license header are always copied.
+     *
+     * @return the copy strategy
+     */
+    @NonNull
+    FileCopyStrategy getCopyStrategy();
+
+    /**
+     * Whether the projects of a guide are assembled in memory from the generated projects and the guide sources, and zipped without being read back from disk.
+     * The project tree of every option is still written to disk, for the test scripts and the documentation, but the zips are built from memory.
+     *
+     * @return Whether the projects are assembled in memory
+     */
+    boolean isInMemoryProjects();
+
+    /**
+     * Maximum number of generated starter projects kept in memory to be reused by the apps with the same name, features and options.
+     * The least recently used projects are evicted first.
+     *
+     * @return the maximum number of cached starter projects, 0 to disable the cache
+     */
+    int getSkeletonCacheSize();
+
+    /**
+     * Maximum number of sources of a project processed concurrently when adding the license headers.
+     *
+     * @return the number of sources processed concurrently by the license header stage
+     */
+    int getLicenseParallelism();
 }
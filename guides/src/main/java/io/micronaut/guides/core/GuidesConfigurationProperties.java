@@ -16,10 +16,14 @@
 package io.micronaut.guides.core;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.options.JdkVersion;
 import io.micronaut.starter.options.Language;
 
+import java.io.File;
 import java.util.List;
+import java.util.zip.Deflater;
 
 import static io.micronaut.starter.options.JdkVersion.JDK_17;
 import static io.micronaut.starter.options.JdkVersion.JDK_21;
@@ -49,6 +53,15 @@ public class GuidesConfigurationProperties implements GuidesConfiguration {
     private static final String DEFAULT_GUIDES_DIR = "guides";
     private static final List<Language> JAVA_KOTLIN_GROOVY = List.of(Language.JAVA, Language.GROOVY, Language.KOTLIN);
     private static final List<String> DEFAULT_ZIP_INCLUDES_EXTENSIONS = List.of(".sh", ".bat");
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final boolean DEFAULT_INCREMENTAL = false;
+    private static final boolean DEFAULT_MACRO_COMPATIBILITY_CHECK = false;
+    private static final int DEFAULT_ZIP_COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+    private static final boolean DEFAULT_REPRODUCIBLE_ZIPS = false;
+    private static final FileCopyStrategy DEFAULT_COPY_STRATEGY = FileCopyStrategy.COPY;
+    private static final boolean DEFAULT_IN_MEMORY_PROJECTS = false;
+    private static final int DEFAULT_SKELETON_CACHE_SIZE = 64;
+    private static final int DEFAULT_LICENSE_PARALLELISM = Runtime.getRuntime().availableProcessors();
     private final boolean DEFAULT_VALIDATE_METADATA = true;
     private String guidesDir = DEFAULT_GUIDES_DIR;
     private String title = "Micronaut Guides";
@@ -67,6 +80,93 @@ public class GuidesConfigurationProperties implements GuidesConfiguration {
     private List<Language> defaultLanguages = JAVA_KOTLIN_GROOVY;
     private String defaultAppName = DEFAULT_APP_NAME;
     private List<String> zipIncludesExtensions = DEFAULT_ZIP_INCLUDES_EXTENSIONS;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private boolean incremental = DEFAULT_INCREMENTAL;
+    private File coordinatesCache;
+    private boolean macroCompatibilityCheck = DEFAULT_MACRO_COMPATIBILITY_CHECK;
+    private int zipCompressionLevel = DEFAULT_ZIP_COMPRESSION_LEVEL;
+    private boolean reproducibleZips = DEFAULT_REPRODUCIBLE_ZIPS;
+    private String jsonSchemaUrl;
+    private File metadataCache;
+    private FileCopyStrategy copyStrategy = DEFAULT_COPY_STRATEGY;
+    private boolean inMemoryProjects = DEFAULT_IN_MEMORY_PROJECTS;
+    private int skeletonCacheSize = DEFAULT_SKELETON_CACHE_SIZE;
+    private int licenseParallelism = DEFAULT_LICENSE_PARALLELISM;
+
+    /**
+     * @param skeletonCacheSize Maximum number of generated starter projects kept in memory to be reused, the least recently used being evicted first. 0 disables the cache. Default value 64.
+     */
+    public void setSkeletonCacheSize(int skeletonCacheSize) {
+        this.skeletonCacheSize = skeletonCacheSize;
+    }
+
+    @Override
+    public int getSkeletonCacheSize() {
+        return skeletonCacheSize;
+    }
+
+    /**
+     * @param licenseParallelism Maximum number of sources of a project processed concurrently when adding the license headers. Default value the number of available processors.
+     */
+    public void setLicenseParallelism(int licenseParallelism) {
+        this.licenseParallelism = licenseParallelism;
+    }
+
+    @Override
+    public int getLicenseParallelism() {
+        return licenseParallelism;
+    }
+
+    /**
+     * @param inMemoryProjects Whether the projects of a guide are assembled in memory and zipped without being read back from disk. The project trees are still written to disk for the test scripts. Default value false.
+     */
+    public void setInMemoryProjects(boolean inMemoryProjects) {
+        this.inMemoryProjects = inMemoryProjects;
+    }
+
+    @Override
+    public boolean isInMemoryProjects() {
+        return inMemoryProjects;
+    }
+
+    /**
+     * @param copyStrategy Strategy used to copy the guide source files to the generated projects. Sources which get a license header are always copied. Default value COPY.
+     */
+    public void setCopyStrategy(@NonNull FileCopyStrategy copyStrategy) {
+        this.copyStrategy = copyStrategy;
+    }
+
+    @Override
+    @NonNull
+    public FileCopyStrategy getCopyStrategy() {
+        return copyStrategy;
+    }
+
+    /**
+     * @param metadataCache File where the metadata of the guides is cached between runs. Every metadata file is parsed and validated on every run if not set.
+     */
+    public void setMetadataCache(@Nullable File metadataCache) {
+        this.metadataCache = metadataCache;
+    }
+
+    @Override
+    @Nullable
+    public File getMetadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * @param jsonSchemaUrl URL of the JSON Schema used to validate the guide metadata when the schema generated at build time is not on the classpath, for example https://micronaut-projects.github.io/micronaut-guides-sdk/guide-metadata.schema.json
+     */
+    public void setJsonSchemaUrl(@Nullable String jsonSchemaUrl) {
+        this.jsonSchemaUrl = jsonSchemaUrl;
+    }
+
+    @Override
+    @Nullable
+    public String getJsonSchemaUrl() {
+        return jsonSchemaUrl;
+    }
 
     /**
      * @param zipIncludesExtensions File extensions to be zip included by default
@@ -80,6 +180,79 @@ public class GuidesConfigurationProperties implements GuidesConfiguration {
         return zipIncludesExtensions;
     }
 
+    /**
+     * @param reproducibleZips Whether the guide zips are reproducible, with sorted entries, a fixed timestamp and normalized permissions. Existing zips with the same contents are reused. Default value false.
+     */
+    public void setReproducibleZips(boolean reproducibleZips) {
+        this.reproducibleZips = reproducibleZips;
+    }
+
+    @Override
+    public boolean isReproducibleZips() {
+        return reproducibleZips;
+    }
+
+    /**
+     * @param zipCompressionLevel Compression level of the guide zips, from 0 (no compression) to 9 (best compression), or -1 for the default level of the deflater. Default value -1.
+     */
+    public void setZipCompressionLevel(int zipCompressionLevel) {
+        this.zipCompressionLevel = zipCompressionLevel;
+    }
+
+    @Override
+    public int getZipCompressionLevel() {
+        return zipCompressionLevel;
+    }
+
+    /**
+     * @param macroCompatibilityCheck Whether every macro substitution is also run through the legacy pipeline and both results are compared. Default value false.
+     */
+    public void setMacroCompatibilityCheck(boolean macroCompatibilityCheck) {
+        this.macroCompatibilityCheck = macroCompatibilityCheck;
+    }
+
+    @Override
+    public boolean isMacroCompatibilityCheck() {
+        return macroCompatibilityCheck;
+    }
+
+    /**
+     * @param coordinatesCache File where the dependency coordinates resolved from the Micronaut Starter are cached between runs. The coordinates are resolved on every run if not set.
+     */
+    public void setCoordinatesCache(@Nullable File coordinatesCache) {
+        this.coordinatesCache = coordinatesCache;
+    }
+
+    @Override
+    @Nullable
+    public File getCoordinatesCache() {
+        return coordinatesCache;
+    }
+
+    /**
+     * @param incremental Whether guides whose inputs did not change since the previous generation are skipped. Default value false.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @param parallelism Number of guides generated concurrently. Default value 1, which generates the guides sequentially.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
     /**
      * @param validateMetadata Whether the Guide metadata should be validated against the JSON Schema
      */
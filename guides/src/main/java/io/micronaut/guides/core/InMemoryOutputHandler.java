@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.io.OutputHandler;
+import io.micronaut.starter.template.Template;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * {@link OutputHandler} which collects the files generated by the starter {@link io.micronaut.starter.application.generator.ProjectGenerator} in a {@link ProjectOverlay} instead of writing them to disk.
+ * The project can then be written to disk in one pass with {@link ProjectOverlay#writeTo(java.nio.file.Path)}, or zipped directly.
+ */
+@Internal
+public final class InMemoryOutputHandler implements OutputHandler {
+
+    private final ProjectOverlay project = new ProjectOverlay();
+
+    @Override
+    public boolean exists(String path) {
+        return project.contains(path);
+    }
+
+    @Override
+    public void write(String path, Template contents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        contents.write(out);
+        project.addFile(path, out.toByteArray(), contents.isExecutable());
+    }
+
+    /**
+     * @return the generated project
+     */
+    @NonNull
+    public ProjectOverlay getProject() {
+        return project;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, the files are kept in memory
+    }
+}
@@ -71,4 +71,9 @@ public class JdkLowerThanMacroExclusion extends MacroExclusion {
         }
         return false;
     }
+
+    @Override
+    public boolean isOptionDependent() {
+        return false;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Utility class to add license headers to source files.
+ * An existing header is detected by reading a bounded prefix of the file, and the header and the content are written in a single streamed pass.
+ */
+final class LicenseHeaderUtils {
+    /**
+     * Text identifying an existing license header.
+     */
+    static final String LICENSE_MARKER = "Licensed under";
+
+    /**
+     * Number of bytes at the start of a file searched for an existing license header.
+     */
+    static final int PREFIX_LENGTH = 4096;
+
+    private LicenseHeaderUtils() {
+    }
+
+    /**
+     * @param file a source file
+     * @return whether the start of the file contains a license header
+     * @throws IOException if an I/O error occurs reading the file
+     */
+    static boolean hasLicenseHeader(@NonNull Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            // ISO-8859-1 maps every byte to a char, so the ASCII marker is found whatever the encoding of the file
+            return new String(in.readNBytes(PREFIX_LENGTH), StandardCharsets.ISO_8859_1).contains(LICENSE_MARKER);
+        }
+    }
+
+    /**
+     * @param content the content of a source file
+     * @param header  the license header
+     * @return the content preceded by the license header, or the content itself if it already contains a license header
+     */
+    @NonNull
+    static byte[] withLicenseHeader(@NonNull byte[] content, @NonNull String header) {
+        if (header.isEmpty() || new String(content, 0, Math.min(content.length, PREFIX_LENGTH), StandardCharsets.ISO_8859_1).contains(LICENSE_MARKER)) {
+            return content;
+        }
+        byte[] headerBytes = header.getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[headerBytes.length + content.length];
+        System.arraycopy(headerBytes, 0, result, 0, headerBytes.length);
+        System.arraycopy(content, 0, result, headerBytes.length, content.length);
+        return result;
+    }
+
+    /**
+     * Copies a source file, writing the license header before its content if it does not contain one already.
+     *
+     * @param source the source file
+     * @param target the target file, replaced if it exists
+     * @param header the license header
+     * @return whether the license header was added
+     * @throws IOException if an I/O error occurs during the copy
+     */
+    static boolean copyWithLicenseHeader(@NonNull Path source, @NonNull Path target, @NonNull String header) throws IOException {
+        if (header.isEmpty() || hasLicenseHeader(source)) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return false;
+        }
+        Files.deleteIfExists(target);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)) {
+            ByteBuffer headerBuffer = ByteBuffer.wrap(header.getBytes(StandardCharsets.UTF_8));
+            while (headerBuffer.hasRemaining()) {
+                out.write(headerBuffer);
+            }
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the license header to a source file if it does not contain one already.
+     * The file is rewritten through a temporary file in the same directory, which then replaces it.
+     *
+     * @param file   the source file
+     * @param header the license header
+     * @return whether the license header was added
+     * @throws IOException if an I/O error occurs rewriting the file
+     */
+    static boolean addLicenseHeader(@NonNull Path file, @NonNull String header) throws IOException {
+        if (header.isEmpty() || hasLicenseHeader(file)) {
+            return false;
+        }
+        Path tempFile = file.resolveSibling(file.getFileName() + ".license.tmp");
+        try {
+            copyWithLicenseHeader(file, tempFile, header);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+}
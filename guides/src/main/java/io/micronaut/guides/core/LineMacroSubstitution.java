@@ -23,9 +23,7 @@ import io.micronaut.guides.core.asciidoc.IncludeDirective;
 import java.nio.file.Path;
 import java.util.Optional;
 
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
-
-abstract class LineMacroSubstitution implements MacroSubstitution {
+abstract class LineMacroSubstitution implements SingleLineMacroSubstitution {
     /**
      * Gets the name of the macro.
      *
@@ -48,31 +46,37 @@ abstract class LineMacroSubstitution implements MacroSubstitution {
     protected abstract String getPrefix();
 
     @Override
-    public String substitute(String str, GuideRender guideRender) {
-        for (String line : findMacroLines(str, getMacroName())) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacroName(), line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
+    public String getLineMacroName() {
+        return getMacroName();
+    }
+
+    @Override
+    public String substituteLine(String line, GuideRender guideRender) {
+        Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacroName(), line);
+        if (asciidocMacroOptional.isEmpty()) {
+            return null;
+        }
 
-            AsciidocMacro macro = asciidocMacroOptional.get();
-            StringBuilder builder = new StringBuilder();
+        AsciidocMacro macro = asciidocMacroOptional.get();
+        StringBuilder builder = new StringBuilder();
 
-            for (Attribute attribute : macro.attributes()) {
-                if (!attribute.values().isEmpty()) {
-                    Argument argument = new Argument(attribute.key(), attribute.values().get(0));
-                    builder.append(argument).append("\n");
-                }
+        for (Attribute attribute : macro.attributes()) {
+            if (!attribute.values().isEmpty()) {
+                Argument argument = new Argument(attribute.key(), attribute.values().get(0));
+                builder.append(argument).append("\n");
             }
+        }
 
-            Path target = Path.of(getBaseDirectory(), getPrefix() + macro.target());
+        Path target = Path.of(getBaseDirectory(), getPrefix() + macro.target());
 
-            IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().target(target.toString());
-            builder.append(includeDirectiveBuilder.build());
+        IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().target(target.toString());
+        builder.append(includeDirectiveBuilder.build());
+        return builder.toString();
+    }
 
-            str = str.replace(line, builder.toString());
-        }
-        return str;
+    @Override
+    public boolean isOptionDependent() {
+        return false;
     }
 
     @Override
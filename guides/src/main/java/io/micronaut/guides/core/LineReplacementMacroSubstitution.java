@@ -17,12 +17,11 @@ package io.micronaut.guides.core;
 
 import io.micronaut.guides.core.asciidoc.AsciidocMacro;
 import java.util.Optional;
-import static io.micronaut.guides.core.MacroUtils.findMacroLines;
 
 /**
  * Line Replacement Macro Substitution.
  */
-public abstract class LineReplacementMacroSubstitution implements MacroSubstitution {
+public abstract class LineReplacementMacroSubstitution implements SingleLineMacroSubstitution {
     /**
      *
      * @return Macro name
@@ -38,17 +37,17 @@ public abstract class LineReplacementMacroSubstitution implements MacroSubstitut
     protected abstract String replacement(AsciidocMacro asciidocMacro, GuideRender guideRender);
 
     @Override
-    public String substitute(String str, GuideRender guideRender) {
-        for (String line : findMacroLines(str, getMacro())) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacro(), line);
-            if (asciidocMacroOptional.isEmpty()) {
-                continue;
-            }
+    public String getLineMacroName() {
+        return getMacro();
+    }
 
-            AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
-            str = str.replace(line, replacement(asciidocMacro, guideRender));
+    @Override
+    public String substituteLine(String line, GuideRender guideRender) {
+        Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacro(), line);
+        if (asciidocMacroOptional.isEmpty()) {
+            return null;
         }
-        return str;
+        return replacement(asciidocMacroOptional.get(), guideRender);
     }
 
 }
@@ -37,6 +37,16 @@ public interface MacroSubstitution extends Ordered {
     @NonNull
     String substitute(@NonNull String str, @NonNull GuideRender guideRender);
 
+    /**
+     * Whether the result of this substitution depends on the {@link GuidesOption} of the render.
+     * Substitutions which only depend on the guide are applied once per guide and their result is reused for every option.
+     *
+     * @return true if the substitution uses the guide option
+     */
+    default boolean isOptionDependent() {
+        return true;
+    }
+
     /**
      * Retrieves the application associated with the given guide and Asciidoc macro.
      *
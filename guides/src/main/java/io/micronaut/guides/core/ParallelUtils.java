@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Utility class to run independent tasks of the guides generation in a {@link ForkJoinPool}.
+ * Tasks forked from a task already running in a pool are executed in that same pool, so nested fan-outs share the workers through work-stealing.
+ * One pool is created lazily per parallelism level and reused by every later call, its daemon workers being released by the pool when idle.
+ */
+final class ParallelUtils {
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private ParallelUtils() {
+    }
+
+    /**
+     * Runs every task and reports the failures together once all the tasks have completed.
+     *
+     * @param description description of the work used in the error message when several tasks fail
+     * @param parallelism maximum number of tasks run concurrently. A value of 1 runs the tasks sequentially in the calling thread.
+     * @param tasks       the tasks to run
+     * @throws IOException if any of the tasks fails
+     */
+    static void invokeAll(@NonNull String description,
+                          int parallelism,
+                          @NonNull List<? extends Callable<?>> tasks) throws IOException {
+        Exception[] failures = new Exception[tasks.size()];
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            for (int i = 0; i < tasks.size(); i++) {
+                failures[i] = call(tasks.get(i));
+            }
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            fork(tasks, failures);
+        } else {
+            pool(parallelism).submit(() -> fork(tasks, failures)).join();
+        }
+        throwIfFailed(description, failures);
+    }
+
+    /**
+     * @param parallelism the parallelism level
+     * @return the shared pool of the parallelism level
+     */
+    static ForkJoinPool pool(int parallelism) {
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    private static void fork(List<? extends Callable<?>> tasks, Exception[] failures) {
+        List<ForkJoinTask<?>> forked = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            int index = i;
+            Callable<?> task = tasks.get(i);
+            forked.add(ForkJoinTask.adapt(() -> {
+                failures[index] = call(task);
+            }).fork());
+        }
+        for (ForkJoinTask<?> task : forked) {
+            task.join();
+        }
+    }
+
+    private static Exception call(Callable<?> task) {
+        try {
+            task.call();
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static void throwIfFailed(String description, Exception[] failures) throws IOException {
+        List<Exception> errors = Arrays.stream(failures).filter(Objects::nonNull).toList();
+        if (errors.isEmpty()) {
+            return;
+        }
+        if (errors.size() == 1) {
+            Exception error = errors.get(0);
+            if (error instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (error instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(description, error);
+        }
+        IOException exception = new IOException(description + ". " + errors.size() + " tasks failed");
+        errors.forEach(exception::addSuppressed);
+        throw exception;
+    }
+}
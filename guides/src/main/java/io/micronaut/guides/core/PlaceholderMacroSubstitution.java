@@ -20,18 +20,26 @@ import io.micronaut.starter.build.dependencies.Coordinate;
 import io.micronaut.starter.util.VersionInfo;
 import jakarta.inject.Singleton;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import static io.micronaut.starter.api.TestFramework.SPOCK;
 
 /**
  * Class that provides macro substitution functionality for placeholders in guide templates.
+ * Placeholders are resolved in a single pass over the document. Substituted values are not scanned for further placeholders.
  */
 @Singleton
 public class PlaceholderMacroSubstitution implements MacroSubstitution {
+    private static final char DELIMITER = '@';
+    private static final String GITHUB_SLUG = "{githubSlug}";
+    private static final String VERSION_SUFFIX = "Version";
+    private static final String MICRONAUT_VERSION = "micronautVersion";
 
     private final GuidesConfiguration guidesConfiguration;
     private final CoordinatesProvider coordinatesProvider;
+    private volatile Map<String, String> versions;
+    private volatile int maxVersionKeyLength;
 
     /**
      * Constructs a new PlaceholderMacroSubstitution.
@@ -53,36 +61,107 @@ public class PlaceholderMacroSubstitution implements MacroSubstitution {
      */
     @Override
     public String substitute(String str, GuideRender guideRender) {
+        if (str.indexOf(DELIMITER) == -1 && !str.contains(GITHUB_SLUG)) {
+            return str;
+        }
         Guide guide = guideRender.guide();
         GuidesOption option = guideRender.option();
-        str = str.replace("{githubSlug}", guide.getSlug());
-        str = str.replace("@language@", StringUtils.capitalize(option.getLanguage().toString()));
-        str = str.replace("@guideTitle@", guide.getTitle());
-        str = str.replace("@guideIntro@", guide.getIntro());
-        str = str.replace("@micronaut@", String.valueOf(guidesConfiguration.getVersion()));
-        str = str.replace("@lang@", option.getLanguage().toString());
-        str = str.replace("@build@", option.getBuildTool().toString());
-        str = str.replace("@testFramework@", option.getTestFramework().toString());
-        str = str.replace("@authors@", String.join(", ", guide.getAuthors()));
-        str = str.replace("@languageextension@", option.getLanguage().getExtension());
-        str = str.replace("@testsuffix@", option.getTestFramework() == SPOCK ? "Spec" : "Test");
-        str = str.replace("@sourceDir@", MacroUtils.getSourceDir(guide.getSlug(), option));
-        str = str.replace("@minJdk@", String.valueOf(guide.getMinimumJavaVersion() != null ? guide.getMinimumJavaVersion() : guidesConfiguration.getDefaultMinJdk()));
-        str = str.replace("@api@", guidesConfiguration.getApiUrl());
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("language", StringUtils.capitalize(option.getLanguage().toString()));
+        placeholders.put("guideTitle", guide.getTitle());
+        placeholders.put("guideIntro", guide.getIntro());
+        placeholders.put("micronaut", String.valueOf(guidesConfiguration.getVersion()));
+        placeholders.put("lang", option.getLanguage().toString());
+        placeholders.put("build", option.getBuildTool().toString());
+        placeholders.put("testFramework", option.getTestFramework().toString());
+        placeholders.put("authors", String.join(", ", guide.getAuthors()));
+        placeholders.put("languageextension", option.getLanguage().getExtension());
+        placeholders.put("testsuffix", option.getTestFramework() == SPOCK ? "Spec" : "Test");
+        placeholders.put("sourceDir", MacroUtils.getSourceDir(guide.getSlug(), option));
+        placeholders.put("minJdk", String.valueOf(guide.getMinimumJavaVersion() != null ? guide.getMinimumJavaVersion() : guidesConfiguration.getDefaultMinJdk()));
+        placeholders.put("api", guidesConfiguration.getApiUrl());
+        return substitute(str, guide.getSlug(), placeholders, getVersions());
+    }
+
+    @Override
+    public int getOrder() {
+        return 2;
+    }
 
-        for (Map.Entry<String, Coordinate> entry : coordinatesProvider.getCoordinates().entrySet()) {
-            if (StringUtils.isNotEmpty(entry.getValue().getVersion())) {
-                str = str.replace("@" + entry.getKey() + "Version@", entry.getValue().getVersion());
+    private String substitute(String str, String githubSlug, Map<String, String> placeholders, Map<String, String> versions) {
+        int maxKeyLength = maxVersionKeyLength;
+        for (String key : placeholders.keySet()) {
+            maxKeyLength = Math.max(maxKeyLength, key.length());
+        }
+        StringBuilder sb = new StringBuilder(str.length() + 256);
+        int length = str.length();
+        int i = 0;
+        while (i < length) {
+            char c = str.charAt(i);
+            if (c == '{' && str.startsWith(GITHUB_SLUG, i)) {
+                sb.append(githubSlug);
+                i += GITHUB_SLUG.length();
+                continue;
             }
+            if (c == DELIMITER) {
+                int end = closingDelimiter(str, i + 1, maxKeyLength);
+                if (end != -1) {
+                    String key = str.substring(i + 1, end);
+                    String value = placeholders.get(key);
+                    if (value == null) {
+                        value = versions.get(key);
+                    }
+                    if (value != null) {
+                        sb.append(value);
+                        i = end + 1;
+                        continue;
+                    }
+                }
+            }
+            sb.append(c);
+            i++;
         }
+        return sb.toString();
+    }
 
-        str = str.replace("@micronautVersion@", VersionInfo.getMicronautVersion());
-
-        return str;
+    private static int closingDelimiter(String str, int from, int maxKeyLength) {
+        int limit = Math.min(str.length(), from + maxKeyLength + 1);
+        for (int i = from; i < limit; i++) {
+            char c = str.charAt(i);
+            if (c == DELIMITER) {
+                return i;
+            }
+            if (c == '\n') {
+                return -1;
+            }
+        }
+        return -1;
     }
 
-    @Override
-    public int getOrder() {
-        return 2;
+    private Map<String, String> getVersions() {
+        Map<String, String> result = versions;
+        if (result == null) {
+            synchronized (this) {
+                result = versions;
+                if (result == null) {
+                    Map<String, String> table = new HashMap<>();
+                    for (Map.Entry<String, Coordinate> entry : coordinatesProvider.getCoordinates().entrySet()) {
+                        if (StringUtils.isNotEmpty(entry.getValue().getVersion())) {
+                            table.put(entry.getKey() + VERSION_SUFFIX, entry.getValue().getVersion());
+                        }
+                    }
+                    // coordinates are substituted before the Micronaut version and take precedence over it
+                    table.putIfAbsent(MICRONAUT_VERSION, VersionInfo.getMicronautVersion());
+                    int maxLength = 0;
+                    for (String key : table.keySet()) {
+                        maxLength = Math.max(maxLength, key.length());
+                    }
+                    maxVersionKeyLength = maxLength;
+                    result = Map.copyOf(table);
+                    versions = result;
+                }
+            }
+        }
+        return result;
     }
 }
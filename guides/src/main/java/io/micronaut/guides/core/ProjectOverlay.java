@@ -0,0 +1,265 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Virtual file tree of a guide project.
+ * Files are added in layers, for example the generated project and then the guide sources, a file replacing any file previously added with the same path.
+ * Files added from disk are only read when their content is needed, so a project can be zipped without being written to a directory first.
+ * License headers are also added when the content of a file is read or written.
+ * Paths are relative and use '/' as separator.
+ */
+@Internal
+public final class ProjectOverlay {
+
+    private final Map<String, OverlayFile> files = new LinkedHashMap<>();
+
+    /**
+     * Creates an overlay with the files of a directory.
+     *
+     * @param root     the directory
+     * @param excluded predicate matching the files and directories to leave out
+     * @return the overlay
+     * @throws IOException if an I/O error occurs walking the directory
+     */
+    @NonNull
+    public static ProjectOverlay of(@NonNull Path root, @NonNull Predicate<Path> excluded) throws IOException {
+        ProjectOverlay overlay = new ProjectOverlay();
+        overlay.addDirectory(root, "", excluded);
+        return overlay;
+    }
+
+    /**
+     * Adds a file whose content is held in memory.
+     *
+     * @param path       the relative path of the file
+     * @param content    the content of the file
+     * @param executable whether the file is executable
+     */
+    public void addFile(@NonNull String path, @NonNull byte[] content, boolean executable) {
+        files.put(path, new OverlayFile(null, content, executable, null));
+    }
+
+    /**
+     * Adds a file read from disk when its content is needed.
+     *
+     * @param path the relative path of the file
+     * @param file the file on disk
+     */
+    public void addFile(@NonNull String path, @NonNull Path file) {
+        files.put(path, new OverlayFile(file, null, false, null));
+    }
+
+    /**
+     * Adds the files of a directory.
+     *
+     * @param dir      the directory
+     * @param prefix   the relative path under which the files of the directory are added, or an empty string for the root of the overlay
+     * @param excluded predicate matching the files and directories to leave out
+     * @throws IOException if an I/O error occurs walking the directory
+     */
+    public void addDirectory(@NonNull Path dir, @NonNull String prefix, @NonNull Predicate<Path> excluded) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        String base = prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+        String separator = dir.getFileSystem().getSeparator();
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attrs) {
+                return !directory.equals(dir) && excluded.test(directory) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && !excluded.test(file)) {
+                    addFile(base + dir.relativize(file).toString().replace(separator, "/"), file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Adds the files of another overlay.
+     *
+     * @param prefix  the relative path under which the files of the other overlay are added, or an empty string for the root of the overlay
+     * @param project the other overlay
+     */
+    public void addProject(@NonNull String prefix, @NonNull ProjectOverlay project) {
+        String base = prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+        project.files.forEach((path, file) -> files.put(base + path, file));
+    }
+
+    /**
+     * Adds a license header to the files matching a predicate, unless they already contain one, when their content is read or written.
+     *
+     * @param filter predicate applied to the relative paths of the files
+     * @param header the license header
+     */
+    public void addLicenseHeader(@NonNull Predicate<String> filter, @NonNull String header) {
+        if (header.isEmpty()) {
+            return;
+        }
+        files.replaceAll((path, file) -> filter.test(path) ? new OverlayFile(file.source(), file.content(), file.executable(), header) : file);
+    }
+
+    /**
+     * Copies the overlay. The copy shares the contents held in memory, which are never modified, but files added or removed afterwards only affect one of the overlays.
+     *
+     * @return a copy of the overlay
+     */
+    @NonNull
+    public ProjectOverlay copy() {
+        ProjectOverlay copy = new ProjectOverlay();
+        copy.files.putAll(files);
+        return copy;
+    }
+
+    /**
+     * Removes the files matching a predicate.
+     *
+     * @param filter predicate applied to the relative paths of the files
+     */
+    public void removeIf(@NonNull Predicate<String> filter) {
+        files.keySet().removeIf(filter);
+    }
+
+    /**
+     * @param path the relative path of a file
+     * @return whether the overlay contains the file
+     */
+    public boolean contains(@NonNull String path) {
+        return files.containsKey(path);
+    }
+
+    /**
+     * @return the relative paths of the files, in the order they were first added
+     */
+    @NonNull
+    public List<String> getPaths() {
+        return new ArrayList<>(files.keySet());
+    }
+
+    /**
+     * @param path the relative path of a file
+     * @return whether the file was added as executable
+     */
+    public boolean isExecutable(@NonNull String path) {
+        OverlayFile file = files.get(path);
+        return file != null && file.executable();
+    }
+
+    /**
+     * Reads the content of a file.
+     *
+     * @param path the relative path of the file
+     * @return the content of the file
+     * @throws IOException if the file is not in the overlay or an I/O error occurs reading it
+     */
+    @NonNull
+    public byte[] read(@NonNull String path) throws IOException {
+        OverlayFile file = files.get(path);
+        if (file == null) {
+            throw new IOException("File not found in the project: " + path);
+        }
+        return read(file);
+    }
+
+    /**
+     * Writes the files of the overlay to a directory in a single pass, creating each parent directory once.
+     * Existing files are replaced rather than overwritten in place, so that a hard link to a guide source left by a previous run, see {@link FileCopyStrategy#HARD_LINK}, is never written through.
+     *
+     * @param dir the target directory
+     * @throws IOException if an I/O error occurs writing the files
+     */
+    public void writeTo(@NonNull Path dir) throws IOException {
+        Set<Path> directories = new HashSet<>();
+        Files.createDirectories(dir);
+        directories.add(dir);
+        for (Map.Entry<String, OverlayFile> entry : files.entrySet()) {
+            Path target = dir.resolve(entry.getKey());
+            if (directories.add(target.getParent())) {
+                Files.createDirectories(target.getParent());
+            }
+            OverlayFile file = entry.getValue();
+            if (file.content() != null || file.licenseHeader() != null) {
+                Files.deleteIfExists(target);
+                Files.write(target, read(file), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } else {
+                Files.copy(file.source(), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (file.executable()) {
+                target.toFile().setExecutable(true);
+            }
+        }
+    }
+
+    private static byte[] read(OverlayFile file) throws IOException {
+        byte[] content = file.content() != null ? file.content() : read(file.source());
+        return file.licenseHeader() != null ? LicenseHeaderUtils.withLicenseHeader(content, file.licenseHeader()) : content;
+    }
+
+    private static byte[] read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + file);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    return Arrays.copyOf(buffer.array(), buffer.position());
+                }
+            }
+            return buffer.array();
+        }
+    }
+
+    /**
+     * File of the overlay, either held in memory or read from disk.
+     *
+     * @param source        the file on disk, if the content is not held in memory
+     * @param content       the content held in memory
+     * @param executable    whether the file is executable
+     * @param licenseHeader the license header added to the content unless it already contains one
+     */
+    private record OverlayFile(@Nullable Path source, @Nullable byte[] content, boolean executable, @Nullable String licenseHeader) {
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import static io.micronaut.guides.core.MacroUtils.findMacroLines;
+
+/**
+ * A {@link MacroSubstitution} whose macros always take a whole line starting with {@code <macroName>:}.
+ * {@link CompositeMacroSubstitution} dispatches those lines directly to {@link #substituteLine(String, GuideRender)} instead of letting every substitution scan the whole document.
+ */
+public interface SingleLineMacroSubstitution extends MacroSubstitution {
+
+    /**
+     * Returns the name of the macro handled by this substitution.
+     *
+     * @return the macro name, without the trailing colon
+     */
+    @NonNull
+    String getLineMacroName();
+
+    /**
+     * Substitutes a line starting with the macro name.
+     *
+     * @param line        the line, without line terminator
+     * @param guideRender Guide
+     * @return the replacement of the line, or null to keep the line unchanged
+     */
+    @Nullable
+    String substituteLine(@NonNull String line, @NonNull GuideRender guideRender);
+
+    @Override
+    @NonNull
+    default String substitute(@NonNull String str, @NonNull GuideRender guideRender) {
+        for (String line : findMacroLines(str, getLineMacroName())) {
+            String replacement = substituteLine(line, guideRender);
+            if (replacement != null) {
+                str = str.replace(line, replacement);
+            }
+        }
+        return str;
+    }
+}
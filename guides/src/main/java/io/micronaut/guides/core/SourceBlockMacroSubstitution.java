@@ -24,7 +24,7 @@ import java.util.Optional;
 import static io.micronaut.guides.core.MacroUtils.*;
 import static io.micronaut.guides.core.asciidoc.IncludeDirective.ATTRIBUTE_LINES;
 
-abstract class SourceBlockMacroSubstitution implements MacroSubstitution {
+abstract class SourceBlockMacroSubstitution implements SingleLineMacroSubstitution {
 
     private final LicenseLoader licenseLoader;
     private final GuidesConfiguration guidesConfiguration;
@@ -75,60 +75,62 @@ abstract class SourceBlockMacroSubstitution implements MacroSubstitution {
     }
 
     @Override
-    public String substitute(String str, GuideRender guideRender) {
+    public String getLineMacroName() {
+        return getMacroName();
+    }
+
+    @Override
+    public String substituteLine(String line, GuideRender guideRender) {
+        Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacroName(), line);
+        if (asciidocMacroOptional.isEmpty()) {
+            return null;
+        }
         GuidesOption option = guideRender.option();
         String slug = guideRender.guide().getSlug();
-        for (String line : findMacroLines(str, getMacroName())) {
-            Optional<AsciidocMacro> asciidocMacroOptional = AsciidocMacro.of(getMacroName(), line);
-            if (asciidocMacroOptional.isPresent()) {
-                AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
-                String appName = appName(asciidocMacro);
-                App app = guideRender.guide().getApps().stream()
-                        .filter(a -> a.getName().equals(appName))
-                        .findFirst()
-                        .orElse(null);
-
-                String condensedTarget = condensedTarget(asciidocMacro, option);
-                String[] arr;
-                int lastIndex = condensedTarget.lastIndexOf('.');
-                if (lastIndex != -1 && lastIndex != condensedTarget.length() - 1) {
-                    String prefix = condensedTarget.substring(0, lastIndex);
-                    String extension = condensedTarget.substring(lastIndex + 1);
-                    arr = new String[]{prefix, extension};
-                } else {
-                    arr = new String[]{condensedTarget};
-                }
-                String language = getLanguage(option);
-                String extension = getExtension(option);
-
-                if (arr.length == 2) {
-                    language = arr[arr.length - 1];
-                    language = resolveAsciidoctorLanguage(language);
-                } else {
-                    condensedTarget = condensedTarget + "." + extension;
-                }
-
-                String target = sourceInclude(slug, appName, condensedTarget, getClasspath(), option, language, app != null ? app.getPackageName() : "");
-                String title = Path.of(target).normalize().toString().replace("{sourceDir}/" + slug + "/", "").replace(getSourceDir(slug, option) + "/", "");
-
-                IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().attributes(asciidocMacro.attributes())
-                        .target(target);
-                if (getFileType() == FileType.CODE) {
-                    Range range = new Range(getLicenseLoader().getNumberOfLines(), -1);
-                    if (range.isValid() && asciidocMacro.attributes().stream().noneMatch(attribute -> attribute.key().equals(ATTRIBUTE_LINES))) {
-                        includeDirectiveBuilder.lines(range);
-                    }
-                }
-                String replacement = SourceBlock.builder()
-                        .title(title)
-                        .language(language)
-                        .includeDirective(includeDirectiveBuilder.build())
-                        .build()
-                        .toString();
-                str = str.replace(line, replacement);
+        AsciidocMacro asciidocMacro = asciidocMacroOptional.get();
+        String appName = appName(asciidocMacro);
+        App app = guideRender.guide().getApps().stream()
+                .filter(a -> a.getName().equals(appName))
+                .findFirst()
+                .orElse(null);
+
+        String condensedTarget = condensedTarget(asciidocMacro, option);
+        String[] arr;
+        int lastIndex = condensedTarget.lastIndexOf('.');
+        if (lastIndex != -1 && lastIndex != condensedTarget.length() - 1) {
+            String prefix = condensedTarget.substring(0, lastIndex);
+            String extension = condensedTarget.substring(lastIndex + 1);
+            arr = new String[]{prefix, extension};
+        } else {
+            arr = new String[]{condensedTarget};
+        }
+        String language = getLanguage(option);
+        String extension = getExtension(option);
+
+        if (arr.length == 2) {
+            language = arr[arr.length - 1];
+            language = resolveAsciidoctorLanguage(language);
+        } else {
+            condensedTarget = condensedTarget + "." + extension;
+        }
+
+        String target = sourceInclude(slug, appName, condensedTarget, getClasspath(), option, language, app != null ? app.getPackageName() : "");
+        String title = Path.of(target).normalize().toString().replace("{sourceDir}/" + slug + "/", "").replace(getSourceDir(slug, option) + "/", "");
+
+        IncludeDirective.Builder includeDirectiveBuilder = IncludeDirective.builder().attributes(asciidocMacro.attributes())
+                .target(target);
+        if (getFileType() == FileType.CODE) {
+            Range range = new Range(getLicenseLoader().getNumberOfLines(), -1);
+            if (range.isValid() && asciidocMacro.attributes().stream().noneMatch(attribute -> attribute.key().equals(ATTRIBUTE_LINES))) {
+                includeDirectiveBuilder.lines(range);
             }
         }
-        return str;
+        return SourceBlock.builder()
+                .title(title)
+                .language(language)
+                .includeDirective(includeDirectiveBuilder.build())
+                .build()
+                .toString();
     }
 
     /**
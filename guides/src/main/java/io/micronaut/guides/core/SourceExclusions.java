@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Files excluded from the project of an app by {@link App#getExcludeSource()}, {@link App#getExcludeBaseSource()}, {@link App#getExcludeTest()} and {@link App#getExcludeBaseTest()}.
+ * The exclusions are applied as a filter while the project is written, so the excluded files are never written instead of being deleted afterwards.
+ * Paths are relative to the directory of the app project and use '/' as separator.
+ */
+final class SourceExclusions implements Predicate<String> {
+    private static final String ALL_FILES = "*";
+    private static final String MAIN = "main";
+    private static final String TEST = "test";
+
+    private final Set<String> files = new HashSet<>();
+    private final List<String> directories = new ArrayList<>();
+
+    private SourceExclusions() {
+    }
+
+    /**
+     * Builds the exclusions of an app for an option.
+     *
+     * @param guide  the guide
+     * @param app    the app
+     * @param option the guides option
+     * @return the exclusions
+     */
+    @NonNull
+    static SourceExclusions of(@NonNull Guide guide, @NonNull App app, @NonNull GuidesOption option) {
+        String module = modulePrefix(guide);
+        String baseModule = baseModulePrefix(guide);
+        SourceExclusions exclusions = new SourceExclusions();
+        exclusions.add(app.getExcludeSource(), module, MAIN, app, option);
+        exclusions.add(app.getExcludeBaseSource(), baseModule, MAIN, app, option);
+        exclusions.add(app.getExcludeTest(), module, TEST, app, option);
+        exclusions.add(app.getExcludeBaseTest(), baseModule, TEST, app, option);
+        return exclusions;
+    }
+
+    /**
+     * @param guide the guide
+     * @return the relative path of the source module of the guide followed by '/', or an empty string if the sources are at the root of the app project
+     */
+    @NonNull
+    static String modulePrefix(@NonNull Guide guide) {
+        return prefix(guide.getSourceModule());
+    }
+
+    /**
+     * @param guide the guide
+     * @return the relative path of the module receiving the sources of the base guide followed by '/', or an empty string if they are at the root of the app project
+     */
+    @NonNull
+    static String baseModulePrefix(@NonNull Guide guide) {
+        return guide.getBaseSourceModule() != null ? prefix(guide.getBaseSourceModule()) : modulePrefix(guide);
+    }
+
+    /**
+     * @return whether no file is excluded
+     */
+    boolean isEmpty() {
+        return files.isEmpty() && directories.isEmpty();
+    }
+
+    /**
+     * @param prefix the relative path of a directory of the app project followed by '/', or an empty string for the app project
+     * @return predicate matching the excluded files by their path relative to the directory
+     */
+    @NonNull
+    Predicate<String> under(@NonNull String prefix) {
+        return prefix.isEmpty() ? this : path -> test(prefix + path);
+    }
+
+    @Override
+    public boolean test(String path) {
+        if (files.contains(path)) {
+            return true;
+        }
+        for (String directory : directories) {
+            if (path.startsWith(directory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(@Nullable List<String> sources, String module, String pathType, App app, GuidesOption option) {
+        if (sources == null) {
+            return;
+        }
+        if (sources.size() == 1 && sources.get(0).equals(ALL_FILES)) {
+            directories.add(module + "src/" + pathType + "/");
+            return;
+        }
+        for (String source : sources) {
+            files.add(module + DefaultFilesTransferUtility.pathByFolder(app, source, pathType, option).replace(File.separatorChar, '/'));
+        }
+    }
+
+    private static String prefix(@Nullable String module) {
+        if (module == null || module.isEmpty()) {
+            return "";
+        }
+        return module.endsWith("/") ? module : module + "/";
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guides.core;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Build manifest written to the website output directory by an incremental generation.
+ * It records, for each generated guide, the hash of its inputs and the outputs it produced.
+ *
+ * @param guides Manifest entries by guide slug
+ */
+@Internal
+@Serdeable
+public record WebsiteManifest(@NonNull Map<String, Entry> guides) {
+
+    /**
+     * Manifest without entries.
+     */
+    public static final WebsiteManifest EMPTY = new WebsiteManifest(Collections.emptyMap());
+
+    /**
+     * Manifest entry of a guide.
+     *
+     * @param hash    Hash of the guide inputs
+     * @param outputs Paths, relative to the output directory, of the files and directories generated for the guide
+     */
+    @Serdeable
+    public record Entry(@NonNull String hash, @NonNull List<String> outputs) {
+    }
+}
@@ -133,4 +133,18 @@ public interface AsciidocConfiguration {
      * @return the callouts directory
      */
     String getCalloutsDir();
+
+    /**
+     * Returns the number of Asciidoctor instances available for concurrent conversions.
+     *
+     * @return the number of Asciidoctor instances
+     */
+    int getPoolSize();
+
+    /**
+     * Returns whether an Asciidoctor instance is created in the background as soon as the converter is created.
+     *
+     * @return true if the Asciidoctor runtime is warmed up in the background, false if it is created on the first conversion
+     */
+    boolean isWarmUp();
 }
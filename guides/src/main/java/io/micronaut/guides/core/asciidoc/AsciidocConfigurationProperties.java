@@ -45,6 +45,8 @@ public class AsciidocConfigurationProperties implements AsciidocConfiguration {
     private static final String DEFAULT_CALLOUTS_DIR = "src/docs/asciidoc/callouts";
     private static final String DEFAULT_BASE_DIR = "";
     private static final boolean DEFAULT_HEADER_FOOTER = true;
+    private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final boolean DEFAULT_WARM_UP = false;
 
     private String sourceHighlighter = DEFAULT_SOURCE_HIGHLIGHTER;
     private Placement toc = DEFAULT_TOC;
@@ -62,6 +64,8 @@ public class AsciidocConfigurationProperties implements AsciidocConfiguration {
     private String baseDir = DEFAULT_BASE_DIR;
     private String calloutsDir = DEFAULT_CALLOUTS_DIR;
     private boolean headerFooter = DEFAULT_HEADER_FOOTER;
+    private int poolSize = DEFAULT_POOL_SIZE;
+    private boolean warmUp = DEFAULT_WARM_UP;
 
     /**
      * Gets the source highlighter.
@@ -360,4 +364,42 @@ public class AsciidocConfigurationProperties implements AsciidocConfiguration {
     public void setHeaderFooter(boolean headerFooter) {
         this.headerFooter = headerFooter;
     }
+
+    /**
+     * Gets the number of Asciidoctor instances available for concurrent conversions.
+     *
+     * @return the number of Asciidoctor instances
+     */
+    @Override
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the number of Asciidoctor instances available for concurrent conversions. Default value the number of available processors. Instances are only created when conversions run concurrently.
+     *
+     * @param poolSize the number of Asciidoctor instances
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets whether an Asciidoctor instance is created in the background as soon as the converter is created.
+     *
+     * @return true if the Asciidoctor runtime is warmed up in the background
+     */
+    @Override
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Sets whether an Asciidoctor instance is created in the background as soon as the converter is created. Default value false.
+     *
+     * @param warmUp true to warm up the Asciidoctor runtime in the background
+     */
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
 }
@@ -16,29 +16,48 @@
 package io.micronaut.guides.core.asciidoc;
 
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.guides.core.Guide;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.asciidoctor.*;
 import org.asciidoctor.extension.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import java.io.File;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DefaultAsciidocConverter is a singleton class that implements the AsciidocConverter interface.
  * It provides methods to convert Asciidoc files to html using Asciidoctor.
+ * Conversions borrow an Asciidoctor instance from a pool sized with {@link AsciidocConfiguration#getPoolSize()}, and each conversion builds its own options and attributes.
+ * The instances are created on demand, so the JRuby runtime only starts when a guide is rendered, unless {@link AsciidocConfiguration#isWarmUp()} creates one in the background.
+ * Every instance created is shut down when the converter is destroyed, the instances used by a conversion at that time once the conversion completes.
+ * The converter cannot be used once destroyed.
  */
 @Singleton
 public class DefaultAsciidocConverter implements AsciidocConverter {
 
     public static final String ATTRIBUTE_GUIDE = "guide";
-    OptionsBuilder optionsBuilder;
-    AttributesBuilder attributesBuilder;
-    private final Asciidoctor asciidoctor;
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultAsciidocConverter.class);
+    private final AsciidocConfiguration asciidocConfiguration;
+    private final List<IncludeProcessor> includeProcessors;
+    private final List<BlockProcessor> blockProcessors;
+    private final List<BlockMacroProcessor> blockMacroProcessors;
+    private final List<InlineMacroProcessor> inLineMacroProcessors;
+    private final List<Preprocessor> preProcessors;
+    private final int poolSize;
+    private final BlockingQueue<Asciidoctor> pool;
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean closed;
 
     DefaultAsciidocConverter(AsciidocConfiguration asciidocConfiguration,
                              List<IncludeProcessor> includeProcessors,
@@ -46,7 +65,144 @@ public class DefaultAsciidocConverter implements AsciidocConverter {
                              List<BlockMacroProcessor> blockMacroProcessors,
                              List<InlineMacroProcessor> inLineMacroProcessors,
                              List<Preprocessor> preProcessors) {
-        attributesBuilder = Attributes.builder()
+        this.asciidocConfiguration = asciidocConfiguration;
+        this.includeProcessors = includeProcessors;
+        this.blockProcessors = blockProcessors;
+        this.blockMacroProcessors = blockMacroProcessors;
+        this.inLineMacroProcessors = inLineMacroProcessors;
+        this.preProcessors = preProcessors;
+        this.poolSize = Math.max(1, asciidocConfiguration.getPoolSize());
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+        if (asciidocConfiguration.isWarmUp()) {
+            Thread warmUp = new Thread(this::warmUp, "asciidoctor-warm-up");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
+    }
+
+    @Override
+    public String convert(@NonNull @NotBlank String asciidoc,
+                          @NonNull @NotNull File baseDir,
+                          @NonNull AsciidocAttributeProvider attributeProvider) {
+        Map<String, Object> attributes = attributeProvider.attributes();
+        Object guide = attributes.get(ATTRIBUTE_GUIDE);
+        if (guide instanceof Guide g) {
+            MDC.put("guide", g.getSlug());
+        }
+        Options options = options(baseDir, attributes);
+        Asciidoctor asciidoctor = borrow();
+        try {
+            return asciidoctor.convert(asciidoc, options);
+        } finally {
+            release(asciidoctor);
+        }
+    }
+
+    /**
+     * Shuts down the JRuby runtime of the idle Asciidoctor instances. The instances used by a conversion are shut down when they are released.
+     */
+    @PreDestroy
+    void close() {
+        closed = true;
+        for (Asciidoctor asciidoctor = pool.poll(); asciidoctor != null; asciidoctor = pool.poll()) {
+            shutdown(asciidoctor);
+        }
+    }
+
+    private void warmUp() {
+        if (!closed && reserve()) {
+            try {
+                release(create());
+            } catch (RuntimeException e) {
+                created.decrementAndGet();
+                LOG.warn("Could not warm up Asciidoctor", e);
+            }
+        }
+    }
+
+    private Asciidoctor borrow() {
+        checkNotClosed();
+        Asciidoctor asciidoctor = pool.poll();
+        if (asciidoctor == null && reserve()) {
+            try {
+                asciidoctor = create();
+            } catch (RuntimeException e) {
+                created.decrementAndGet();
+                throw e;
+            }
+        }
+        try {
+            // the instances are not returned to the pool once the converter is closed
+            while (asciidoctor == null) {
+                checkNotClosed();
+                asciidoctor = pool.poll(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an Asciidoctor instance", e);
+        }
+        if (closed) {
+            release(asciidoctor);
+            checkNotClosed();
+        }
+        return asciidoctor;
+    }
+
+    /**
+     * Returns an instance to the pool, or shuts it down if the converter is closed.
+     * The converter is checked again once the instance is in the pool, so that an instance added while {@link #close()} drains the pool is shut down.
+     */
+    private void release(Asciidoctor asciidoctor) {
+        if (closed) {
+            shutdown(asciidoctor);
+            return;
+        }
+        pool.add(asciidoctor);
+        if (closed && pool.remove(asciidoctor)) {
+            shutdown(asciidoctor);
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The Asciidoctor converter is closed");
+        }
+    }
+
+    private static void shutdown(Asciidoctor asciidoctor) {
+        try {
+            asciidoctor.shutdown();
+        } catch (RuntimeException e) {
+            LOG.warn("Could not shut down Asciidoctor", e);
+        }
+    }
+
+    private boolean reserve() {
+        for (int count = created.get(); count < poolSize; count = created.get()) {
+            if (created.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Asciidoctor create() {
+        long start = System.nanoTime();
+        Asciidoctor asciidoctor = Asciidoctor.Factory.create();
+        JavaExtensionRegistry javaExtensionRegistry = asciidoctor.javaExtensionRegistry();
+        includeProcessors.forEach(javaExtensionRegistry::includeProcessor);
+        blockProcessors.forEach(javaExtensionRegistry::block);
+        blockMacroProcessors.forEach(javaExtensionRegistry::blockMacro);
+        inLineMacroProcessors.forEach(javaExtensionRegistry::inlineMacro);
+        preProcessors.forEach(javaExtensionRegistry::preprocessor);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Asciidoctor instance created in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return asciidoctor;
+    }
+
+    private Options options(File baseDir, Map<String, Object> attributes) {
+        AttributesBuilder attributesBuilder = Attributes.builder()
                 .sourceHighlighter(asciidocConfiguration.getSourceHighlighter())
                 .tableOfContents(asciidocConfiguration.getToc())
                 .attribute("toclevels", asciidocConfiguration.getToclevels())
@@ -58,41 +214,16 @@ public class DefaultAsciidocConverter implements AsciidocConverter {
                 .icons(asciidocConfiguration.getIcons())
                 .imagesDir(asciidocConfiguration.getImagesdir())
                 .noFooter(asciidocConfiguration.isNofooter());
+        attributes.forEach(attributesBuilder::attribute);
 
-        optionsBuilder = Options.builder()
+        return Options.builder()
                 .eruby(asciidocConfiguration.getRuby())
                 .docType("book")
                 .safe(SafeMode.UNSAFE)
                 .toFile(false)
-                .option("header_footer", asciidocConfiguration.isHeaderFooter());
-
-        if (StringUtils.isNotEmpty(asciidocConfiguration.getBaseDir())) {
-            optionsBuilder.baseDir(new File(asciidocConfiguration.getBaseDir()));
-        }
-
-        asciidoctor = Asciidoctor.Factory.create();
-        JavaExtensionRegistry javaExtensionRegistry = asciidoctor.javaExtensionRegistry();
-        includeProcessors.forEach(javaExtensionRegistry::includeProcessor);
-        blockProcessors.forEach(javaExtensionRegistry::block);
-        blockMacroProcessors.forEach(javaExtensionRegistry::blockMacro);
-        inLineMacroProcessors.forEach(javaExtensionRegistry::inlineMacro);
-        preProcessors.forEach(javaExtensionRegistry::preprocessor);
-    }
-
-    @Override
-    public String convert(@NonNull @NotBlank String asciidoc,
-                          @NonNull @NotNull File baseDir,
-                          @NonNull AsciidocAttributeProvider attributeProvider) {
-        attributeProvider.attributes()
-                .forEach((name, value) -> attributesBuilder.attribute(name, value));
-        Object guide = attributeProvider.attributes().get(ATTRIBUTE_GUIDE);
-        if (guide instanceof Guide g) {
-            MDC.put("guide", g.getSlug());
-        }
-        return asciidoctor.convert(asciidoc, optionsBuilder
-            .baseDir(baseDir)
-            .attributes(attributesBuilder.build())
-            .build());
-
+                .option("header_footer", asciidocConfiguration.isHeaderFooter())
+                .baseDir(baseDir)
+                .attributes(attributesBuilder.build())
+                .build();
     }
 }
@@ -0,0 +1,104 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(startApplication = false)
+class CompositeMacroSubstitutionTest {
+
+    @Inject
+    CompositeMacroSubstitution compositeMacroSubstitution;
+
+    @Test
+    void substituteMatchesTheLegacyPipeline() throws IOException {
+        String asciidoc = Files.readString(Path.of("src/test/resources/guides/creating-your-first-micronaut-app/creating-your-first-micronaut-app.adoc")) + """
+
+                test:HelloControllerTest[]
+
+                resource:application.yml[]
+
+                dependency:micronaut-http-client[scope=testImplementation]
+
+                See guideLink:micronaut-http-client[the HTTP client guide] for details.
+
+                :exclude-for-build:maven
+                diffLink:[]
+                :exclude-for-build:
+
+                common:header.adoc[]\r
+                Language: @language@, tests: @testsuffix@, slug: {githubSlug}""";
+        Guide guide = GuideTestUtils.guideWithSlug("creating-your-first-micronaut-app");
+        guide.setTitle("Creating your first Micronaut application");
+        guide.setIntro("Learn how to create a Micronaut application.");
+        guide.setAuthors(List.of("Iván López", "Sergio del Amo"));
+        for (GuidesOption option : List.of(
+                new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT),
+                new GuidesOption(BuildTool.MAVEN, Language.GROOVY, TestFramework.SPOCK),
+                new GuidesOption(BuildTool.GRADLE_KOTLIN, Language.KOTLIN, TestFramework.KOTEST))) {
+            GuideRender guideRender = new GuideRender(guide, option);
+            String result = compositeMacroSubstitution.substitute(asciidoc, guideRender);
+            assertEquals(compositeMacroSubstitution.legacySubstitute(asciidoc, guideRender), result);
+            assertFalse(result.contains("common:"));
+            assertFalse(result.contains("source:"));
+            assertTrue(result.contains("include::{commonsDir}/common-header.adoc[]\r\n"));
+        }
+    }
+
+    @Test
+    void optionIndependentSubstitutionsRunOncePerGuide() {
+        CountingSubstitution independent = new CountingSubstitution(0, false);
+        CountingSubstitution dependent = new CountingSubstitution(0, true);
+        CountingSubstitution independentAfterDependent = new CountingSubstitution(1, false);
+        CompositeMacroSubstitution substitution = new CompositeMacroSubstitution(List.of(independent, dependent, independentAfterDependent), new GuidesConfigurationProperties());
+        Guide guide = GuideTestUtils.guideWithSlug("creating-your-first-micronaut-app");
+        for (GuidesOption option : List.of(
+                new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT),
+                new GuidesOption(BuildTool.MAVEN, Language.JAVA, TestFramework.JUNIT))) {
+            assertEquals("asciidoc", substitution.substitute("asciidoc", new GuideRender(guide, option)));
+        }
+        assertEquals(1, independent.count);
+        assertEquals(2, dependent.count);
+        assertEquals(2, independentAfterDependent.count);
+
+        substitution.substitute("asciidoc", new GuideRender(GuideTestUtils.guideWithSlug("other"), new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT)));
+        assertEquals(2, independent.count);
+    }
+
+    static class CountingSubstitution implements MacroSubstitution {
+        private final int order;
+        private final boolean optionDependent;
+        private int count;
+
+        CountingSubstitution(int order, boolean optionDependent) {
+            this.order = order;
+            this.optionDependent = optionDependent;
+        }
+
+        @Override
+        public String substitute(String str, GuideRender guideRender) {
+            count++;
+            return str;
+        }
+
+        @Override
+        public boolean isOptionDependent() {
+            return optionDependent;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ContentHashUtilsTest {
+
+    @Test
+    void hashChangesOnlyWhenContentChanges(@TempDir Path dir) throws IOException {
+        Files.createDirectories(dir.resolve("java/src"));
+        Files.writeString(dir.resolve("metadata.json"), "{}");
+        Files.writeString(dir.resolve("java/src/Main.java"), "class Main {}");
+        List<File> roots = List.of(dir.toFile());
+
+        String hash = ContentHashUtils.hash(roots);
+        dir.resolve("metadata.json").toFile().setLastModified(0);
+        assertEquals(hash, ContentHashUtils.hash(roots));
+
+        Files.writeString(dir.resolve("java/src/Main.java"), "class Main { }");
+        assertNotEquals(hash, ContentHashUtils.hash(roots));
+    }
+
+    @Test
+    void extrasAreHashed() throws IOException {
+        List<File> roots = List.of(new File("src/test/resources/guides/hello-base"));
+        assertEquals(ContentHashUtils.hash(roots, "1.0.0"), ContentHashUtils.hash(roots, "1.0.0"));
+        assertNotEquals(ContentHashUtils.hash(roots, "1.0.0"), ContentHashUtils.hash(roots, "2.0.0"));
+    }
+}
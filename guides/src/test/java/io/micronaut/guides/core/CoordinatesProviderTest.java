@@ -0,0 +1,48 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.starter.build.dependencies.Coordinate;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(startApplication = false)
+class CoordinatesProviderTest {
+
+    @Inject
+    CoordinatesProvider coordinatesProvider;
+
+    @Test
+    void coordinatesAreResolvedOnce() {
+        Map<String, Coordinate> coordinates = coordinatesProvider.getCoordinates();
+        assertFalse(coordinates.isEmpty());
+        assertSame(coordinates, coordinatesProvider.getCoordinates());
+        assertThrows(UnsupportedOperationException.class, () -> coordinates.remove("micronaut-core"));
+    }
+
+    @Test
+    void coordinatesAreReadFromTheCache(@TempDir File tempDir) {
+        File cache = new File(tempDir, "coordinates.properties");
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setCoordinatesCache(cache);
+
+        Map<String, Coordinate> resolved = new DefaultCoordinatesProvider(guidesConfiguration).getCoordinates();
+        assertTrue(cache.isFile());
+
+        Map<String, Coordinate> cached = new DefaultCoordinatesProvider(guidesConfiguration).getCoordinates();
+        assertEquals(resolved.keySet(), cached.keySet());
+        resolved.forEach((key, coordinate) -> {
+            Coordinate other = cached.get(key);
+            assertEquals(coordinate.getGroupId(), other.getGroupId());
+            assertEquals(coordinate.getArtifactId(), other.getArtifactId());
+            assertEquals(coordinate.getVersion(), other.getVersion());
+            assertEquals(coordinate.getOrder(), other.getOrder());
+            assertEquals(coordinate.isPom(), other.isPom());
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileCopyStrategyTest {
+
+    @Test
+    void copy(@TempDir Path dir) throws IOException {
+        assertFalse(copy(FileCopyStrategy.COPY, dir));
+    }
+
+    @Test
+    void hardLink(@TempDir Path dir) throws IOException {
+        assertTrue(copy(FileCopyStrategy.HARD_LINK, dir));
+    }
+
+    private static boolean copy(FileCopyStrategy strategy, Path dir) throws IOException {
+        Path source = Files.writeString(dir.resolve("application.properties"), "micronaut.application.name=default\n");
+        Path target = Files.writeString(dir.resolve("copy.properties"), "previous content which is longer than the source\n");
+
+        strategy.copy(source, target);
+
+        assertEquals("micronaut.application.name=default\n", Files.readString(target));
+        return Files.isSameFile(source, target);
+    }
+}
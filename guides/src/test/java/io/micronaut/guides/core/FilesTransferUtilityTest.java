@@ -1,5 +1,6 @@
 package io.micronaut.guides.core;
 
+import io.micronaut.context.annotation.Property;
 import io.micronaut.starter.api.TestFramework;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Language;
@@ -7,14 +8,20 @@ import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.micronaut.guides.core.DefaultFilesTransferUtility.pathByFolder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -85,6 +92,11 @@ class FilesTransferUtilityTest {
         assertTrue(new File(outputDirectory, "/creating-your-first-micronaut-app-maven-java/src/main/java/example/micronaut/HelloController.java").exists());
         assertTrue(new File(outputDirectory, "/creating-your-first-micronaut-app-maven-kotlin/src/main/kotlin/example/micronaut/HelloController.kt").exists());
 
+        String helloController = Files.readString(outputDirectory.toPath().resolve("creating-your-first-micronaut-app-gradle-java/src/main/java/example/micronaut/HelloController.java"));
+        assertTrue(helloController.startsWith("/*"));
+        assertTrue(helloController.contains("Licensed under"));
+        assertEquals(helloController.indexOf("Licensed under"), helloController.lastIndexOf("Licensed under"));
+
         assertFalse(new File(outputDirectory, "/creating-your-first-micronaut-app-gradle-groovy/src/main/groovy/example/micronaut/Application.groovy").exists());
         assertFalse(new File(outputDirectory, "/creating-your-first-micronaut-app-gradle-java/src/main/java/example/micronaut/Application.java").exists());
         assertFalse(new File(outputDirectory, "/creating-your-first-micronaut-app-gradle-kotlin/src/main/kotlin/example/micronaut/Application.kt").exists());
@@ -93,4 +105,102 @@ class FilesTransferUtilityTest {
         assertFalse(new File(outputDirectory, "/creating-your-first-micronaut-app-maven-kotlin/src/main/kotlin/example/micronaut/Application.kt").exists());
     }
 
+    @Test
+    void testTransferToProject(@TempDir Path outputDirectory) throws Exception {
+        List<Guide> metadatas = new ArrayList<>();
+        File fileBase = new File("src/test/resources/guides/hello-base");
+        guideParser.parseGuideMetadata(fileBase, "metadata.json").ifPresent(metadatas::add);
+        File file = new File("src/test/resources/guides/creating-your-first-micronaut-app");
+        guideParser.parseGuideMetadata(file, "metadata.json").ifPresent(metadatas::add);
+        Guide guide = metadatas.get(1);
+
+        guideProjectGenerator.generate(outputDirectory.toFile(), guide);
+        filesTransferUtility.transferFiles(file, outputDirectory.toFile(), guide, metadatas);
+
+        FilesTransferUtility.ProjectFiles projectFiles = filesTransferUtility.projectFiles(file, guide, metadatas);
+        for (GuidesOption guidesOption : GuideGenerationUtils.guidesOptions(guide, LoggerFactory.getLogger(FilesTransferUtilityTest.class))) {
+            Path folder = outputDirectory.resolve(MacroUtils.getSourceDir(guide.getSlug(), guidesOption));
+            ProjectOverlay project = guideProjectGenerator.generateProject(guide, guidesOption);
+            projectFiles.transferFiles(project, guidesOption);
+
+            List<String> written;
+            try (Stream<Path> files = Files.walk(folder)) {
+                written = files.filter(Files::isRegularFile)
+                        .map(f -> folder.relativize(f).toString().replace(File.separatorChar, '/'))
+                        .sorted()
+                        .toList();
+            }
+            assertEquals(written, project.getPaths().stream().sorted().toList());
+            for (String path : written) {
+                assertArrayEquals(Files.readAllBytes(folder.resolve(path)), project.read(path), path);
+            }
+        }
+    }
+
+    @Test
+    @Property(name = "guides.copy-strategy", value = "HARD_LINK")
+    void testGenerateTwiceWithHardLinks(@TempDir Path tempDir) throws Exception {
+        Path guideDir = tempDir.resolve("guides/linked");
+        Path source = guideDir.resolve("java/src/main/resources/application.properties");
+        Files.createDirectories(source.getParent());
+        Files.writeString(guideDir.resolve("metadata.json"), """
+                {
+                  "title": "Linked",
+                  "intro": "Linked guide",
+                  "authors": ["Sergio del Amo"],
+                  "categories": ["Getting Started"],
+                  "publicationDate": "2024-04-24",
+                  "languages": ["java"],
+                  "buildTools": ["gradle"],
+                  "apps": [{"name": "default"}]
+                }
+                """);
+        Files.writeString(source, "micronaut.application.name=linked\n");
+        Guide guide = guideParser.parseGuideMetadata(guideDir.toFile(), "metadata.json").orElseThrow();
+        Path outputDirectory = tempDir.resolve("output");
+        Path target = outputDirectory.resolve("linked-gradle-java/src/main/resources/application.properties");
+
+        for (int i = 0; i < 2; i++) {
+            guideProjectGenerator.generate(outputDirectory.toFile(), guide);
+            filesTransferUtility.transferFiles(guideDir.toFile(), outputDirectory.toFile(), guide, List.of(guide));
+
+            assertTrue(Files.isSameFile(source, target));
+            assertEquals("micronaut.application.name=linked\n", Files.readString(source));
+        }
+    }
+
+    @Test
+    void testAddLicenses(@TempDir Path folder) throws Exception {
+        String licensed = new LicenseLoaderReplacement().getLicenseHeaderText() + "class Licensed {}\n";
+        for (String file : List.of("src/main/java/example/Application.java", "src/main/kotlin/example/Application.kt",
+                "src/test/groovy/example/ApplicationSpec.groovy", "src/main/java/example/Licensed.java", "README.md")) {
+            Files.createDirectories(folder.resolve(file).getParent());
+            Files.writeString(folder.resolve(file), file.endsWith("Licensed.java") ? licensed : "class Application {}\n");
+        }
+        DefaultFilesTransferUtility utility = new DefaultFilesTransferUtility(new LicenseLoaderReplacement(), new GuidesConfigurationProperties());
+
+        List<DefaultFilesTransferUtility.LicenseResult> results = utility.addLicenses(folder.toFile());
+
+        assertEquals(4, results.size());
+        assertEquals(3, results.stream().filter(DefaultFilesTransferUtility.LicenseResult::added).count());
+        assertTrue(Files.readString(folder.resolve("src/main/kotlin/example/Application.kt")).contains("Licensed under"));
+        assertEquals(licensed, Files.readString(folder.resolve("src/main/java/example/Licensed.java")));
+        assertEquals("class Application {}\n", Files.readString(folder.resolve("README.md")));
+    }
+
+    @Test
+    void testAddLicensesSkipsCopiedSources(@TempDir Path folder) throws Exception {
+        Path copied = folder.resolve("src/main/java/example/HelloController.java");
+        Path generated = folder.resolve("src/main/java/example/Application.java");
+        Files.createDirectories(copied.getParent());
+        Files.writeString(copied, "class HelloController {}\n");
+        Files.writeString(generated, "class Application {}\n");
+        DefaultFilesTransferUtility utility = new DefaultFilesTransferUtility(new LicenseLoaderReplacement(), new GuidesConfigurationProperties());
+
+        List<DefaultFilesTransferUtility.LicenseResult> results = utility.addLicenses(folder.toFile(), Set.of(copied.toAbsolutePath().normalize()));
+
+        assertEquals(List.of(generated), results.stream().map(DefaultFilesTransferUtility.LicenseResult::file).toList());
+        assertEquals("class HelloController {}\n", Files.readString(copied));
+        assertTrue(Files.readString(generated).contains("Licensed under"));
+    }
 }
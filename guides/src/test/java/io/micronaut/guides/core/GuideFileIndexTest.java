@@ -0,0 +1,36 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuideFileIndexTest {
+
+    @Test
+    void indexesFilesByDirectoryAndExtension(@TempDir Path guideDir) throws IOException {
+        for (String file : List.of("default/src/main/resources/application.properties",
+                "default/java/src/main/java/example/Application.java",
+                "default/kotlin/src/main/kotlin/example/Application.kt",
+                "sample.json",
+                "guide.adoc")) {
+            Files.createDirectories(guideDir.resolve(file).getParent());
+            Files.writeString(guideDir.resolve(file), file);
+        }
+
+        GuideFileIndex index = GuideFileIndex.of(guideDir.toFile());
+
+        assertEquals(List.of("main/resources/application.properties"), index.filesIn("default/src"));
+        assertEquals(List.of("src/main/java/example/Application.java"), index.filesIn("default/java"));
+        assertSame(index.filesIn("default/java"), index.filesIn("default/java"));
+        assertTrue(index.filesIn("default/groovy").isEmpty());
+        assertEquals(List.of("default/src/main/resources/application.properties", "sample.json"), index.filesWithExtensions(List.of(".json", ".properties")));
+        assertEquals(guideDir.resolve("sample.json").toAbsolutePath(), index.resolve("sample.json"));
+        assertTrue(GuideFileIndex.of(guideDir.resolve("missing").toFile()).filesIn("src").isEmpty());
+    }
+}
@@ -1,16 +1,25 @@
 package io.micronaut.guides.core;
 
+import io.micronaut.json.JsonMapper;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Language;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +29,15 @@ public class GuideParserTest {
     @Inject
     GuideParser guideParser;
 
+    @Inject
+    JsonSchemaProvider jsonSchemaProvider;
+
+    @Inject
+    JsonMapper jsonMapper;
+
+    @Inject
+    GuideMerger guideMerger;
+
     @Test
     void testParseGuidesMetadata() {
         String path = "src/test/resources/guides";
@@ -124,4 +142,101 @@ public class GuideParserTest {
         assertNull(guide.getBase());
         assertTrue(guide.getEnv().isEmpty());
     }
+
+    @Test
+    void testParseGuidesMetadataSkipsSourceAndBuildDirectories(@TempDir Path guidesDir) throws IOException {
+        Path metadata = Path.of("src/test/resources/guides/creating-your-first-micronaut-app/metadata.json");
+        for (String dir : List.of("second", "first", "first/build/generated", "third/src/main/resources", "node_modules/guide")) {
+            Files.createDirectories(guidesDir.resolve(dir));
+            Files.copy(metadata, guidesDir.resolve(dir).resolve("metadata.json"));
+        }
+        Files.copy(metadata, guidesDir.resolve("metadata.json"));
+
+        List<? extends Guide> metadatas = guideParser.parseGuidesMetadata(guidesDir.toFile());
+
+        assertEquals(List.of("first", "second"), metadatas.stream().map(Guide::getSlug).toList());
+    }
+
+    @Test
+    void testParseGuidesMetadataWithCache(@TempDir Path tempDir) throws IOException {
+        Path guidesDir = tempDir.resolve("guides");
+        Path metadata = Path.of("src/test/resources/guides/creating-your-first-micronaut-app/metadata.json");
+        for (String dir : List.of("first", "second")) {
+            Files.createDirectories(guidesDir.resolve(dir));
+            Files.copy(metadata, guidesDir.resolve(dir).resolve("metadata.json"));
+        }
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setMetadataCache(tempDir.resolve("cache/metadata.json").toFile());
+        GuideParser parser = new DefaultGuideParser(guidesConfiguration, jsonSchemaProvider, jsonMapper, guideMerger);
+
+        assertEquals(2, parser.parseGuidesMetadata(guidesDir.toFile()).size());
+        GuideMetadataCache cache = jsonMapper.readValue(Files.readAllBytes(tempDir.resolve("cache/metadata.json")), GuideMetadataCache.class);
+        assertEquals(2, cache.entries().size());
+
+        String firstKey = guidesDir.resolve("first/metadata.json").toAbsolutePath().toString();
+        GuideMetadataCache.Entry entry = cache.entries().get(firstKey);
+        Map<String, GuideMetadataCache.Entry> entries = new HashMap<>(cache.entries());
+        entries.put(firstKey, new GuideMetadataCache.Entry(entry.lastModified(), entry.size(), true,
+                entry.content().replace("Creating your first Micronaut application", "Cached title")));
+        Files.write(tempDir.resolve("cache/metadata.json"), jsonMapper.writeValueAsBytes(new GuideMetadataCache(cache.version(), entries)));
+
+        assertEquals("Cached title", parser.parseGuidesMetadata(guidesDir.toFile()).get(0).getTitle());
+
+        Files.setLastModifiedTime(guidesDir.resolve("first/metadata.json"), FileTime.fromMillis(entry.lastModified() + 1000));
+        assertEquals("Creating your first Micronaut application", parser.parseGuidesMetadata(guidesDir.toFile()).get(0).getTitle());
+    }
+
+    @Test
+    void testParseGuidesMetadataUsesParseGuideMetadata(@TempDir Path tempDir) throws IOException {
+        Path guidesDir = tempDir.resolve("guides");
+        Files.createDirectories(guidesDir.resolve("first"));
+        Files.copy(Path.of("src/test/resources/guides/creating-your-first-micronaut-app/metadata.json"), guidesDir.resolve("first/metadata.json"));
+        GuideParser parser = new DefaultGuideParser(new GuidesConfigurationProperties(), jsonSchemaProvider, jsonMapper, guideMerger) {
+            @Override
+            public Optional<? extends Guide> parseGuideMetadata(File guidesDir, String metadataConfigName) {
+                Optional<? extends Guide> guide = super.parseGuideMetadata(guidesDir, metadataConfigName);
+                guide.ifPresent(g -> g.setTitle("Overridden title"));
+                return guide;
+            }
+        };
+
+        assertEquals("Overridden title", parser.parseGuidesMetadata(guidesDir.toFile()).get(0).getTitle());
+    }
+
+    @Test
+    void testOverriddenContentValidationIsCalled() {
+        GuideParser parser = new DefaultGuideParser(new GuidesConfigurationProperties(), jsonSchemaProvider, jsonMapper, guideMerger) {
+            @Override
+            @SuppressWarnings("deprecation")
+            protected <T extends Guide> boolean validateGuide(T guide, String content, File configFile) {
+                return !content.contains("Creating your first Micronaut application");
+            }
+        };
+
+        assertTrue(parser.parseGuideMetadata(new File("src/test/resources/guides/creating-your-first-micronaut-app"), "metadata.json").isEmpty());
+        assertTrue(parser.parseGuideMetadata(new File("src/test/resources/guides/hello-base"), "metadata.json").isPresent());
+    }
+
+    @Test
+    void testMetadataCacheOfAnotherVersionIsIgnored(@TempDir Path tempDir) throws IOException {
+        Path guidesDir = tempDir.resolve("guides");
+        Files.createDirectories(guidesDir.resolve("first"));
+        Files.copy(Path.of("src/test/resources/guides/creating-your-first-micronaut-app/metadata.json"), guidesDir.resolve("first/metadata.json"));
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setMetadataCache(tempDir.resolve("cache/metadata.json").toFile());
+        GuideParser parser = new DefaultGuideParser(guidesConfiguration, jsonSchemaProvider, jsonMapper, guideMerger);
+
+        parser.parseGuidesMetadata(guidesDir.toFile());
+        GuideMetadataCache cache = jsonMapper.readValue(Files.readAllBytes(tempDir.resolve("cache/metadata.json")), GuideMetadataCache.class);
+        assertNotNull(cache.version());
+        assertFalse(cache.version().contains("null"));
+
+        String key = guidesDir.resolve("first/metadata.json").toAbsolutePath().toString();
+        GuideMetadataCache.Entry entry = cache.entries().get(key);
+        Map<String, GuideMetadataCache.Entry> entries = Map.of(key, new GuideMetadataCache.Entry(entry.lastModified(), entry.size(), true,
+                entry.content().replace("Creating your first Micronaut application", "Cached title")));
+        Files.write(tempDir.resolve("cache/metadata.json"), jsonMapper.writeValueAsBytes(new GuideMetadataCache("null:true", entries)));
+
+        assertEquals("Creating your first Micronaut application", parser.parseGuidesMetadata(guidesDir.toFile()).get(0).getTitle());
+    }
 }
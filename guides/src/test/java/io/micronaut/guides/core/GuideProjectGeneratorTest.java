@@ -1,8 +1,10 @@
 package io.micronaut.guides.core;
 
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.starter.api.TestFramework;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
 import io.micronaut.starter.options.Language;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
@@ -13,11 +15,20 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.micronaut.guides.core.TestUtils.readFile;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MicronautTest(startApplication = false)
@@ -29,6 +40,9 @@ public class GuideProjectGeneratorTest {
     @Inject
     GuideProjectGenerator guideProjectGenerator;
 
+    @Inject
+    DefaultGuideProjectGenerator defaultGuideProjectGenerator;
+
     @Test
     void testGenerate() throws IOException {
         File outputDirectory = Files.createTempDirectory("micronaut-guides").toFile();
@@ -59,6 +73,7 @@ public class GuideProjectGeneratorTest {
         assertTrue(new File(dest, "gradlew.bat").exists());
         assertTrue(new File(dest, "gradle.properties").exists());
         assertTrue(new File(dest, "gradlew").exists());
+        assertTrue(new File(dest, "gradlew").canExecute());
         assertTrue(new File(dest, "settings.gradle").exists());
         assertTrue(new File(dest, "micronaut-cli.yml").exists());
         assertTrue(new File(dest, "README.md").exists());
@@ -142,5 +157,85 @@ public class GuideProjectGeneratorTest {
         }
     }
 
+    @Test
+    void testGenerateProjectReusesSkeleton() throws IOException {
+        App app = new App();
+        app.setName("default");
+        app.setPackageName("example.micronaut");
+        app.setApplicationType(ApplicationType.DEFAULT);
+        app.setFramework("Micronaut");
+        app.setFeatures(List.of("yaml"));
+        Guide guide = new Guide();
+        guide.setSlug("creating-your-first-micronaut-app");
+        guide.setApps(List.of(app));
+        GuidesOption option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+
+        ProjectOverlay first = defaultGuideProjectGenerator.generateProject(guide, option, JdkVersion.JDK_17, app);
+        ProjectOverlay second = defaultGuideProjectGenerator.generateProject(guide, option, JdkVersion.JDK_17, app);
+
+        assertNotSame(first, second);
+        assertEquals(first.getPaths(), second.getPaths());
+        assertArrayEquals(first.read("build.gradle"), second.read("build.gradle"));
+        assertTrue(first.isExecutable("gradlew"));
+
+        first.removeIf(path -> path.startsWith("src/"));
+        assertTrue(second.contains("src/main/java/example/micronaut/Application.java"));
+
+        app.setName("other");
+        ProjectOverlay other = defaultGuideProjectGenerator.generateProject(guide, option, JdkVersion.JDK_17, app);
+        assertFalse(Arrays.equals(second.read("settings.gradle"), other.read("settings.gradle")));
+    }
+
+    @Test
+    void testGenerateProjectOfOption() throws IOException {
+        Guide guide = new Guide();
+        guide.setSlug("micronaut-microservices");
+        guide.setApps(List.of(app("bookcatalogue", List.of("Application")), app("bookinventory", null)));
+        GuidesOption option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
 
+        ProjectOverlay project = guideProjectGenerator.generateProject(guide, option);
+
+        assertTrue(project.contains("bookcatalogue/build.gradle"));
+        assertTrue(project.contains("bookinventory/build.gradle"));
+        assertTrue(project.isExecutable("bookinventory/gradlew"));
+        assertFalse(project.contains("bookcatalogue/src/main/java/example/micronaut/Application.java"));
+        assertTrue(project.contains("bookinventory/src/main/java/example/micronaut/Application.java"));
+    }
+
+    @Test
+    void testSkeletonCacheIsBounded() throws Exception {
+        GuidesOption option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+        try (ApplicationContext context = ApplicationContext.run(Map.of("guides.skeleton-cache-size", 1))) {
+            DefaultGuideProjectGenerator generator = context.getBean(DefaultGuideProjectGenerator.class);
+            App first = app("first", null);
+            Guide guide = new Guide();
+            guide.setApps(List.of(first));
+            ExecutorService executorService = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<ProjectOverlay>> projects = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    projects.add(executorService.submit(() -> generator.generateProject(guide, option, JdkVersion.JDK_17, first)));
+                }
+                for (Future<ProjectOverlay> project : projects) {
+                    assertTrue(project.get().contains("build.gradle"));
+                }
+            } finally {
+                executorService.shutdown();
+            }
+            assertEquals(1, generator.cachedSkeletons());
+
+            generator.generateProject(guide, option, JdkVersion.JDK_17, app("second", null));
+            assertEquals(1, generator.cachedSkeletons());
+        }
+    }
+
+    private static App app(String name, List<String> excludeSource) {
+        App app = new App();
+        app.setName(name);
+        app.setPackageName("example.micronaut");
+        app.setApplicationType(ApplicationType.DEFAULT);
+        app.setFramework("Micronaut");
+        app.setExcludeSource(excludeSource);
+        return app;
+    }
 }
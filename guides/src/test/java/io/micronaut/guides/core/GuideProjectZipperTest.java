@@ -2,17 +2,29 @@ package io.micronaut.guides.core;
 
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
+import org.apache.commons.compress.archivers.zip.UnixStat;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @MicronautTest(startApplication = false)
 public class GuideProjectZipperTest {
@@ -43,4 +55,153 @@ public class GuideProjectZipperTest {
 
         assertEquals(expected, result);
     }
+
+    @Test
+    void testZipKeepsContentsAndExecutableModes(@TempDir Path projectFolder) throws IOException {
+        Files.createDirectories(projectFolder.resolve("src/main/java/example/micronaut"));
+        Files.createDirectories(projectFolder.resolve(".idea"));
+        Files.writeString(projectFolder.resolve("gradlew"), "#!/bin/sh\n");
+        Files.writeString(projectFolder.resolve("build.gradle"), "plugins {\n}\n".repeat(100));
+        Files.writeString(projectFolder.resolve("src/main/java/example/micronaut/Application.java"), "class Application {}\n");
+        Files.writeString(projectFolder.resolve(".idea/workspace.xml"), "<project/>");
+        Files.writeString(projectFolder.resolve(".DS_Store"), "");
+        Files.write(projectFolder.resolve("empty.txt"), new byte[0]);
+        File zipFile = projectFolder.resolveSibling(projectFolder.getFileName() + ".zip").toFile();
+
+        guideProjectZipper.zipDirectory(projectFolder.toString(), zipFile.getAbsolutePath());
+
+        try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+            List<String> names = Collections.list(zip.getEntries()).stream().map(ZipArchiveEntry::getName).sorted().toList();
+            assertEquals(List.of("build.gradle", "empty.txt", "gradlew", "src/main/java/example/micronaut/Application.java"), names);
+            assertEquals(UnixStat.FILE_FLAG | 0755, zip.getEntry("gradlew").getUnixMode());
+            assertEquals(0, zip.getEntry("build.gradle").getUnixMode());
+            try (InputStream in = zip.getInputStream(zip.getEntry("build.gradle"))) {
+                assertEquals("plugins {\n}\n".repeat(100), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            try (InputStream in = zip.getInputStream(zip.getEntry("empty.txt"))) {
+                assertEquals(0, in.readAllBytes().length);
+            }
+        } finally {
+            Files.deleteIfExists(zipFile.toPath());
+        }
+    }
+
+    @Test
+    void testReproducibleZip(@TempDir Path tempDir) throws IOException {
+        Path projectFolder = Files.createDirectories(tempDir.resolve("project"));
+        Files.createDirectories(projectFolder.resolve("src/main/java/example/micronaut"));
+        Files.writeString(projectFolder.resolve("src/main/java/example/micronaut/Application.java"), "class Application {}\n");
+        Files.writeString(projectFolder.resolve("gradlew"), "#!/bin/sh\n");
+        Files.writeString(projectFolder.resolve("build.gradle"), "plugins {\n}\n");
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setReproducibleZips(true);
+        GuideProjectZipper zipper = new DefaultGuideProjectZipper(guidesConfiguration);
+        Path first = tempDir.resolve("first.zip");
+        Path second = tempDir.resolve("second.zip");
+
+        zipper.zipDirectory(projectFolder.toString(), first.toString());
+        Files.setLastModifiedTime(projectFolder.resolve("build.gradle"), FileTime.fromMillis(0));
+        zipper.zipDirectory(projectFolder.toString(), second.toString());
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+        try (ZipFile zip = ZipFile.builder().setPath(first).get()) {
+            List<ZipArchiveEntry> entries = Collections.list(zip.getEntries());
+            assertEquals(List.of("build.gradle", "gradlew", "src/main/java/example/micronaut/Application.java"), entries.stream().map(ZipArchiveEntry::getName).toList());
+            assertEquals(UnixStat.FILE_FLAG | 0644, zip.getEntry("build.gradle").getUnixMode());
+            assertEquals(UnixStat.FILE_FLAG | 0755, zip.getEntry("gradlew").getUnixMode());
+            assertEquals(1, entries.stream().map(ZipArchiveEntry::getTime).distinct().count());
+        }
+
+        FileTime reused = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(first, reused);
+        zipper.zipDirectory(projectFolder.toString(), first.toString());
+        assertEquals(reused, Files.getLastModifiedTime(first));
+
+        Files.writeString(projectFolder.resolve("build.gradle"), "plugins {\n    id(\"java\")\n}\n");
+        zipper.zipDirectory(projectFolder.toString(), first.toString());
+        assertNotEquals(reused, Files.getLastModifiedTime(first));
+        assertFalse(Arrays.equals(Files.readAllBytes(first), Files.readAllBytes(second)));
+    }
+
+    @Test
+    void testZipOverlay(@TempDir Path tempDir) throws IOException {
+        Path generated = Files.createDirectories(tempDir.resolve("generated"));
+        Path sources = Files.createDirectories(tempDir.resolve("sources/src/main/java/example/micronaut"));
+        Files.writeString(generated.resolve("build.gradle"), "plugins {\n}\n");
+        Files.createDirectories(generated.resolve("src/main/java/example/micronaut"));
+        Files.writeString(generated.resolve("src/main/java/example/micronaut/Application.java"), "class Generated {}\n");
+        Files.writeString(sources.resolve("Application.java"), "class Application {}\n");
+        ProjectOverlay project = ProjectOverlay.of(generated, path -> false);
+        project.addDirectory(tempDir.resolve("sources"), "", path -> false);
+        project.addFile("run.sh", "#!/bin/sh\n".getBytes(StandardCharsets.UTF_8), true);
+        project.addFile("micronaut-cli.yml", new byte[0], false);
+        project.removeIf(path -> path.endsWith(".yml"));
+        Path zipFile = tempDir.resolve("project.zip");
+
+        guideProjectZipper.zip(project, zipFile.toString());
+
+        try (ZipFile zip = ZipFile.builder().setPath(zipFile).get()) {
+            List<String> names = Collections.list(zip.getEntries()).stream().map(ZipArchiveEntry::getName).sorted().toList();
+            assertEquals(List.of("build.gradle", "run.sh", "src/main/java/example/micronaut/Application.java"), names);
+            assertEquals(UnixStat.FILE_FLAG | 0755, zip.getEntry("run.sh").getUnixMode());
+            try (InputStream in = zip.getInputStream(zip.getEntry("src/main/java/example/micronaut/Application.java"))) {
+                assertEquals("class Application {}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void testZipSpanningSeveralWindows(@TempDir Path tempDir) throws IOException {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setParallelism(3);
+        guidesConfiguration.setReproducibleZips(true);
+        ProjectOverlay project = new ProjectOverlay();
+        List<String> names = new ArrayList<>();
+        List<byte[]> contents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String name = "src/file-%02d.txt".formatted(i);
+            byte[] content = ("content " + i + "\n").repeat(i + 1).getBytes(StandardCharsets.UTF_8);
+            project.addFile(name, content, false);
+            names.add(name);
+            contents.add(content);
+        }
+        Path zipFile = tempDir.resolve("project.zip");
+
+        new DefaultGuideProjectZipper(guidesConfiguration).zip(project, zipFile.toString());
+
+        try (ZipFile zip = ZipFile.builder().setPath(zipFile).get()) {
+            assertEquals(names, Collections.list(zip.getEntries()).stream().map(ZipArchiveEntry::getName).toList());
+            for (int i = 0; i < names.size(); i++) {
+                try (InputStream in = zip.getInputStream(zip.getEntry(names.get(i)))) {
+                    assertArrayEquals(contents.get(i), in.readAllBytes());
+                }
+            }
+        }
+        try (java.util.zip.ZipFile zip = new java.util.zip.ZipFile(zipFile.toFile())) {
+            List<String> hashedNames = names.stream().map(name -> name + ":" + Integer.toOctalString(UnixStat.FILE_FLAG | 0644)).toList();
+            assertEquals("sha256:" + ContentHashUtils.hash(hashedNames, contents, String.valueOf(guidesConfiguration.getZipCompressionLevel())), zip.getComment());
+        }
+    }
+
+    @Test
+    void testReproducibleZipOfChangedExecutableFlag(@TempDir Path tempDir) throws IOException {
+        GuidesConfigurationProperties guidesConfiguration = new GuidesConfigurationProperties();
+        guidesConfiguration.setReproducibleZips(true);
+        GuideProjectZipper zipper = new DefaultGuideProjectZipper(guidesConfiguration);
+        Path zipFile = tempDir.resolve("project.zip");
+        ProjectOverlay project = new ProjectOverlay();
+        project.addFile("run.sh", "#!/bin/sh\n".getBytes(StandardCharsets.UTF_8), false);
+        zipper.zip(project, zipFile.toString());
+        FileTime reused = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(zipFile, reused);
+
+        ProjectOverlay executable = new ProjectOverlay();
+        executable.addFile("run.sh", "#!/bin/sh\n".getBytes(StandardCharsets.UTF_8), true);
+        zipper.zip(executable, zipFile.toString());
+
+        assertNotEquals(reused, Files.getLastModifiedTime(zipFile));
+        try (ZipFile zip = ZipFile.builder().setPath(zipFile).get()) {
+            assertEquals(UnixStat.FILE_FLAG | 0755, zip.getEntry("run.sh").getUnixMode());
+        }
+    }
 }
@@ -19,4 +19,39 @@ class GuidesConfigurationTest {
     void defaultZipIncludesExtension(GuidesConfiguration guidesConfiguration) {
         assertEquals(List.of(".sh", ".bat"), guidesConfiguration.getZipIncludesExtensions());
     }
+
+    @Test
+    void defaultParallelism(GuidesConfiguration guidesConfiguration) {
+        assertEquals(1, guidesConfiguration.getParallelism());
+    }
+
+    @Test
+    void defaultIncremental(GuidesConfiguration guidesConfiguration) {
+        assertFalse(guidesConfiguration.isIncremental());
+    }
+
+    @Test
+    void defaultZipCompressionLevel(GuidesConfiguration guidesConfiguration) {
+        assertEquals(-1, guidesConfiguration.getZipCompressionLevel());
+    }
+
+    @Test
+    void defaultReproducibleZips(GuidesConfiguration guidesConfiguration) {
+        assertFalse(guidesConfiguration.isReproducibleZips());
+    }
+
+    @Test
+    void defaultCopyStrategy(GuidesConfiguration guidesConfiguration) {
+        assertEquals(FileCopyStrategy.COPY, guidesConfiguration.getCopyStrategy());
+    }
+
+    @Test
+    void defaultSkeletonCacheSize(GuidesConfiguration guidesConfiguration) {
+        assertEquals(64, guidesConfiguration.getSkeletonCacheSize());
+    }
+
+    @Test
+    void defaultLicenseParallelism(GuidesConfiguration guidesConfiguration) {
+        assertEquals(Runtime.getRuntime().availableProcessors(), guidesConfiguration.getLicenseParallelism());
+    }
 }
@@ -0,0 +1,32 @@
+package io.micronaut.guides.core;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.JsonSchema;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(startApplication = false)
+class JsonSchemaProviderTest {
+
+    @Inject
+    JsonSchemaProvider jsonSchemaProvider;
+
+    @Test
+    void schemaIsLoadedFromTheClasspathOnce() throws IOException {
+        assertNotNull(getClass().getClassLoader().getResource(DefaultJsonSchemaProvider.CLASSPATH_SCHEMA));
+
+        JsonSchema schema = jsonSchemaProvider.getSchema();
+        assertSame(schema, jsonSchemaProvider.getSchema());
+
+        String metadata = Files.readString(Path.of("src/test/resources/guides/creating-your-first-micronaut-app/metadata.json"));
+        assertTrue(schema.validate(metadata, InputFormat.JSON).isEmpty());
+        assertFalse(schema.validate("{\"title\": 1}", InputFormat.JSON).isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LicenseHeaderUtilsTest {
+    private static final String HEADER = "/*\n * Licensed under the Apache License, Version 2.0\n */\n";
+    private static final String SOURCE = "package example.micronaut;\n\nclass Application {\n}\n";
+
+    @Test
+    void addsTheLicenseHeaderOnce(@TempDir Path dir) throws IOException {
+        Path file = Files.writeString(dir.resolve("Application.java"), SOURCE);
+
+        assertTrue(LicenseHeaderUtils.addLicenseHeader(file, HEADER));
+        assertFalse(LicenseHeaderUtils.addLicenseHeader(file, HEADER));
+
+        assertEquals(HEADER + SOURCE, Files.readString(file));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void copiesWithTheLicenseHeader(@TempDir Path dir) throws IOException {
+        Path source = Files.writeString(dir.resolve("Application.java"), SOURCE);
+        Path licensed = Files.writeString(dir.resolve("Licensed.java"), HEADER + SOURCE);
+        Path target = Files.writeString(dir.resolve("Target.java"), "previous content");
+
+        assertTrue(LicenseHeaderUtils.copyWithLicenseHeader(source, target, HEADER));
+        assertEquals(HEADER + SOURCE, Files.readString(target));
+        assertEquals(SOURCE, Files.readString(source));
+
+        assertFalse(LicenseHeaderUtils.copyWithLicenseHeader(licensed, target, HEADER));
+        assertEquals(HEADER + SOURCE, Files.readString(target));
+    }
+
+    @Test
+    void onlyTheStartOfTheFileIsSearched(@TempDir Path dir) throws IOException {
+        Path file = Files.writeString(dir.resolve("Application.java"), " ".repeat(LicenseHeaderUtils.PREFIX_LENGTH) + "// Licensed under");
+
+        assertFalse(LicenseHeaderUtils.hasLicenseHeader(file));
+    }
+
+    @Test
+    void addsTheLicenseHeaderToContent() {
+        byte[] content = "class Application {}\n".getBytes(StandardCharsets.UTF_8);
+
+        byte[] licensed = LicenseHeaderUtils.withLicenseHeader(content, HEADER);
+
+        assertEquals(HEADER + "class Application {}\n", new String(licensed, StandardCharsets.UTF_8));
+        assertSame(licensed, LicenseHeaderUtils.withLicenseHeader(licensed, HEADER));
+        assertSame(content, LicenseHeaderUtils.withLicenseHeader(content, ""));
+    }
+}
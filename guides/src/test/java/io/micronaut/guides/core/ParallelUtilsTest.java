@@ -0,0 +1,97 @@
+package io.micronaut.guides.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelUtilsTest {
+
+    @Test
+    void runsEveryTaskAndReportsFailuresTogether() {
+        AtomicInteger completed = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int index = i;
+            tasks.add(() -> {
+                if (index % 2 == 0) {
+                    throw new IOException("option " + index);
+                }
+                completed.incrementAndGet();
+                return null;
+            });
+        }
+
+        IOException e = assertThrows(IOException.class, () -> ParallelUtils.invokeAll("Failed", 4, tasks));
+        assertEquals(3, completed.get());
+        assertEquals(3, e.getSuppressed().length);
+        assertEquals("option 0", e.getSuppressed()[0].getMessage());
+        assertEquals("option 2", e.getSuppressed()[1].getMessage());
+        assertEquals("option 4", e.getSuppressed()[2].getMessage());
+    }
+
+    @Test
+    void sequentialModeRunsEveryTask() {
+        AtomicInteger completed = new AtomicInteger();
+        List<Callable<Void>> tasks = List.of(
+                () -> {
+                    throw new IllegalStateException("first");
+                },
+                () -> {
+                    completed.incrementAndGet();
+                    return null;
+                });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ParallelUtils.invokeAll("Failed", 1, tasks));
+        assertEquals("first", e.getMessage());
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void nestedTasksShareThePool() throws IOException {
+        AtomicInteger completed = new AtomicInteger();
+        List<Callable<Void>> guides = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            guides.add(() -> {
+                List<Callable<Void>> options = new ArrayList<>();
+                for (int j = 0; j < 6; j++) {
+                    options.add(() -> {
+                        completed.incrementAndGet();
+                        return null;
+                    });
+                }
+                ParallelUtils.invokeAll("Failed", 2, options);
+                return null;
+            });
+        }
+
+        ParallelUtils.invokeAll("Failed", 2, guides);
+        assertEquals(24, completed.get());
+    }
+
+    @Test
+    void callsShareOnePoolPerParallelism() throws IOException {
+        Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(() -> {
+                pools.add(ForkJoinTask.getPool());
+                return null;
+            });
+        }
+
+        ParallelUtils.invokeAll("Failed", 3, tasks);
+        ParallelUtils.invokeAll("Failed", 3, tasks);
+        assertEquals(Set.of(ParallelUtils.pool(3)), pools);
+        assertEquals(3, ParallelUtils.pool(3).getParallelism());
+    }
+}
@@ -112,4 +112,12 @@ public class PlaceholderMacroSubstitutionTest {
         String result = placeholderMacroSubstitution.substitute(str, new GuideRender(guide, option));
         assertNotEquals(str, result);
     }
+
+    @Test
+    void testSubstituteKeepsUnknownTokens() {
+        String str = """
+                @Inject @lang@ sergio@micronaut.io @unknown@ @@ @@build@ {githubSlug}""";
+        String result = placeholderMacroSubstitution.substitute(str, new GuideRender(guide, option));
+        assertEquals("@Inject java sergio@micronaut.io @unknown@ @@ @gradle building-a-rest-api-spring-boot-vs-micronaut-data", result);
+    }
 }
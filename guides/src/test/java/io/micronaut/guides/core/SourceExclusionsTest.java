@@ -0,0 +1,79 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceExclusionsTest {
+
+    private final GuidesOption option = new GuidesOption(BuildTool.GRADLE, Language.JAVA, TestFramework.JUNIT);
+
+    @Test
+    void testExcludedFiles() {
+        App app = app();
+        app.setExcludeSource(List.of("Application"));
+        app.setExcludeTest(List.of("HelloControllerTest"));
+
+        SourceExclusions exclusions = SourceExclusions.of(new Guide(), app, option);
+
+        assertFalse(exclusions.isEmpty());
+        assertTrue(exclusions.test("src/main/java/example/micronaut/Application.java"));
+        assertTrue(exclusions.test("src/test/java/example/micronaut/HelloControllerTest.java"));
+        assertFalse(exclusions.test("src/main/java/example/micronaut/HelloController.java"));
+        assertFalse(exclusions.test("src/test/java/example/micronaut/Application.java"));
+    }
+
+    @Test
+    void testExcludeAllFiles() {
+        App app = app();
+        app.setExcludeTest(List.of("*"));
+
+        SourceExclusions exclusions = SourceExclusions.of(new Guide(), app, option);
+
+        assertTrue(exclusions.test("src/test/java/example/micronaut/HelloControllerTest.java"));
+        assertTrue(exclusions.test("src/test/resources/application-test.yml"));
+        assertFalse(exclusions.test("src/main/java/example/micronaut/Application.java"));
+        assertFalse(exclusions.test("build.gradle"));
+    }
+
+    @Test
+    void testExcludedFilesOfModules() {
+        Guide guide = new Guide();
+        guide.setSourceModule("app");
+        guide.setBaseSourceModule("lib");
+        App app = app();
+        app.setExcludeSource(List.of("Application"));
+        app.setExcludeBaseSource(List.of("Book"));
+
+        SourceExclusions exclusions = SourceExclusions.of(guide, app, option);
+
+        assertTrue(exclusions.test("app/src/main/java/example/micronaut/Application.java"));
+        assertTrue(exclusions.test("lib/src/main/java/example/micronaut/Book.java"));
+        assertFalse(exclusions.test("src/main/java/example/micronaut/Application.java"));
+
+        Predicate<String> moduleExclusions = exclusions.under(SourceExclusions.modulePrefix(guide));
+        assertTrue(moduleExclusions.test("src/main/java/example/micronaut/Application.java"));
+        assertFalse(moduleExclusions.test("src/main/java/example/micronaut/Book.java"));
+    }
+
+    @Test
+    void testNoExclusions() {
+        SourceExclusions exclusions = SourceExclusions.of(new Guide(), app(), option);
+
+        assertTrue(exclusions.isEmpty());
+        assertFalse(exclusions.test("src/main/java/example/micronaut/Application.java"));
+    }
+
+    private static App app() {
+        App app = new App();
+        app.setName("default");
+        app.setPackageName("example.micronaut");
+        return app;
+    }
+}
@@ -0,0 +1,126 @@
+package io.micronaut.guides.core;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Property(name = "guides.incremental", value = "true")
+@Property(name = "guides.validate-metadata", value = "false")
+@MicronautTest(startApplication = false)
+class WebsiteGeneratorTest {
+
+    private static final String STALE = "stale output";
+
+    @Inject
+    WebsiteGenerator websiteGenerator;
+
+    @Test
+    void testIncrementalGeneration(@TempDir Path inputDirectory, @TempDir Path outputDirectory) throws IOException {
+        writeGuide(inputDirectory, "alpha", "Alpha content");
+        writeGuide(inputDirectory, "beta", "Beta content");
+
+        websiteGenerator.generate(inputDirectory.toFile(), outputDirectory.toFile());
+        assertTrue(Files.readString(outputDirectory.resolve("alpha.html")).contains("Alpha content"));
+        assertTrue(Files.readString(outputDirectory.resolve("beta.html")).contains("Beta content"));
+        assertTrue(Files.exists(outputDirectory.resolve(".guides-manifest.json")));
+
+        // unchanged guides are skipped
+        Files.writeString(outputDirectory.resolve("alpha.html"), STALE);
+        Files.writeString(outputDirectory.resolve("beta.html"), STALE);
+        websiteGenerator.generate(inputDirectory.toFile(), outputDirectory.toFile());
+        assertEquals(STALE, Files.readString(outputDirectory.resolve("alpha.html")));
+        assertEquals(STALE, Files.readString(outputDirectory.resolve("beta.html")));
+
+        // changed guides are regenerated, the outputs of deleted guides are removed
+        writeGuide(inputDirectory, "alpha", "Alpha changed");
+        Files.delete(inputDirectory.resolve("guides/beta/beta.adoc"));
+        Files.delete(inputDirectory.resolve("guides/beta/metadata.json"));
+        Files.delete(inputDirectory.resolve("guides/beta"));
+        websiteGenerator.generate(inputDirectory.toFile(), outputDirectory.toFile());
+        assertTrue(Files.readString(outputDirectory.resolve("alpha.html")).contains("Alpha changed"));
+        assertFalse(Files.exists(outputDirectory.resolve("beta.html")));
+    }
+
+    @Test
+    void testConfigurationChangeRegeneratesGuides(@TempDir Path inputDirectory, @TempDir Path outputDirectory) throws IOException {
+        writeGuide(inputDirectory, "alpha", "Alpha content");
+        websiteGenerator.generate(inputDirectory.toFile(), outputDirectory.toFile());
+        Files.writeString(outputDirectory.resolve("alpha.html"), STALE);
+
+        try (ApplicationContext context = ApplicationContext.builder()
+                .environments("test")
+                .properties(Map.of(
+                        "guides.incremental", true,
+                        "guides.validate-metadata", false,
+                        "guides.title", "Other Guides"))
+                .start()) {
+            context.getBean(WebsiteGenerator.class).generate(inputDirectory.toFile(), outputDirectory.toFile());
+        }
+        assertTrue(Files.readString(outputDirectory.resolve("alpha.html")).contains("Alpha content"));
+    }
+
+    @Test
+    void testInMemoryProjectsAreWrittenForTheTestScripts(@TempDir Path inputDirectory, @TempDir Path outputDirectory) throws IOException {
+        Path guide = Files.createDirectories(inputDirectory.resolve("guides/gamma"));
+        Files.writeString(guide.resolve("metadata.json"), """
+                {
+                  "title": "gamma",
+                  "intro": "Intro of gamma",
+                  "authors": ["Sergio del Amo"],
+                  "categories": ["Development"],
+                  "publicationDate": "2024-01-01",
+                  "languages": ["java"],
+                  "buildTools": ["gradle", "maven"],
+                  "apps": [{"name": "default"}]
+                }
+                """);
+        Files.writeString(guide.resolve("gamma.adoc"), "= gamma\n\nGamma content\n");
+
+        try (ApplicationContext context = ApplicationContext.builder()
+                .environments("test")
+                .properties(Map.of(
+                        "guides.validate-metadata", false,
+                        "guides.in-memory-projects", true))
+                .start()) {
+            context.getBean(WebsiteGenerator.class).generate(inputDirectory.toFile(), outputDirectory.toFile());
+        }
+
+        for (String script : List.of("test.sh", "native-test.sh")) {
+            Path current = outputDirectory;
+            for (String line : Files.readAllLines(outputDirectory.resolve("gamma").resolve(script))) {
+                if (line.startsWith("cd ")) {
+                    current = current.resolve(line.substring(3).trim()).normalize();
+                    assertTrue(Files.isDirectory(current), script + ": " + line);
+                }
+            }
+        }
+        assertTrue(Files.readString(outputDirectory.resolve("gamma/test.sh")).contains("cd gamma-gradle-java"));
+        assertTrue(Files.exists(outputDirectory.resolve("gamma-gradle-java.zip")));
+        assertTrue(Files.exists(outputDirectory.resolve("gamma-maven-java.zip")));
+    }
+
+    private static void writeGuide(Path inputDirectory, String slug, String content) throws IOException {
+        Path guide = Files.createDirectories(inputDirectory.resolve("guides").resolve(slug));
+        Files.writeString(guide.resolve("metadata.json"), """
+                {
+                  "title": "%s",
+                  "intro": "Intro of %s",
+                  "authors": ["Sergio del Amo"],
+                  "categories": ["Development"],
+                  "publicationDate": "2024-01-01"
+                }
+                """.formatted(slug, slug));
+        Files.writeString(guide.resolve(slug + ".adoc"), "= " + slug + "\n\n" + content + "\n");
+    }
+}
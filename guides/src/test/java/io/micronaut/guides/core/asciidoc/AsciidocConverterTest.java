@@ -0,0 +1,103 @@
+package io.micronaut.guides.core.asciidoc;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.extension.IncludeProcessor;
+import org.asciidoctor.extension.PreprocessorReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Property(name = "asciidoc.pool-size", value = "2")
+@MicronautTest(startApplication = false)
+class AsciidocConverterTest {
+
+    @Inject
+    AsciidocConverter asciidocConverter;
+
+    @Inject
+    AsciidocConfiguration asciidocConfiguration;
+
+    @Test
+    void attributesDoNotLeakBetweenConversions() {
+        File baseDir = new File(".");
+        String first = asciidocConverter.convert("Value: {leaked}", baseDir, () -> Map.of("leaked", "first-conversion"));
+        assertTrue(first.contains("Value: first-conversion"));
+
+        String second = asciidocConverter.convert("Value: {leaked}", baseDir, Map::of);
+        assertFalse(second.contains("first-conversion"));
+        assertTrue(second.contains("Value: {leaked}"));
+    }
+
+    @Test
+    void concurrentConversionsUseTheirOwnAttributes() throws ExecutionException, InterruptedException {
+        File baseDir = new File(".");
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String value = "value-" + i;
+                results.add(executorService.submit(() -> asciidocConverter.convert("Value: {option}", baseDir, () -> Map.of("option", value))));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                String html = results.get(i).get();
+                assertTrue(html.contains("Value: value-" + i + "<"));
+                for (int j = 0; j < results.size(); j++) {
+                    if (j != i) {
+                        assertFalse(html.contains("value-" + j + "<"));
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void conversionInProgressCompletesAfterClose() throws Exception {
+        File baseDir = new File(".");
+        CountDownLatch converting = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        IncludeProcessor blocking = new IncludeProcessor() {
+            @Override
+            public boolean handles(String target) {
+                return "blocking".equals(target);
+            }
+
+            @Override
+            public void process(Document document, PreprocessorReader reader, String target, Map<String, Object> attributes) {
+                converting.countDown();
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                reader.pushInclude("Included", target, target, 1, attributes);
+            }
+        };
+        DefaultAsciidocConverter converter = new DefaultAsciidocConverter(asciidocConfiguration, List.of(blocking), List.of(), List.of(), List.of(), List.of());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> html = executorService.submit(() -> converter.convert("include::blocking[]", baseDir, Map::of));
+            converting.await();
+            converter.close();
+            closed.countDown();
+            assertTrue(html.get().contains("Included"));
+            assertThrows(IllegalStateException.class, () -> converter.convert("Hello", baseDir, Map::of));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}